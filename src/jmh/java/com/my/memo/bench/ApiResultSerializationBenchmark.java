@@ -0,0 +1,45 @@
+package com.my.memo.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.memo.dto.schedule.resp.PublicScheduleListRespDto;
+import com.my.memo.dto.schedule.resp.ScheduleRespDto;
+import com.my.memo.util.api.ApiResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResult로 감싼 응답의 JSON 직렬화 비용을 측정합니다 (스프링 MVC와 같은 ObjectMapper 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResultSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ApiResult<PublicScheduleListRespDto> publicScheduleList;
+    private ApiResult<ScheduleRespDto> scheduleDetail;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ResponseFixtures fixtures = new ResponseFixtures(size);
+        publicScheduleList = ApiResult.success(new PublicScheduleListRespDto(fixtures.scheduleRows, true, size * 10, 10, 0, null));
+        scheduleDetail = ApiResult.success(new ScheduleRespDto(fixtures.schedule, fixtures.commentPage, fixtures.assignedUserList));
+    }
+
+    @Benchmark
+    public byte[] publicScheduleList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(publicScheduleList);
+    }
+
+    @Benchmark
+    public byte[] scheduleDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(scheduleDetail);
+    }
+}
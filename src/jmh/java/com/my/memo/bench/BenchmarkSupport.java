@@ -0,0 +1,66 @@
+package com.my.memo.bench;
+
+import com.my.memo.MemoApplication;
+import com.my.memo.seed.DatasetGenerator;
+import com.my.memo.seed.DatasetSpec;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크 공통 지원 코드입니다
+ * <p>
+ * 애플리케이션 컨텍스트는 웹 서버 없이 test 프로필(H2, MySQL 모드)로 띄우며,
+ * 외부 날씨 API 호출과 SQL 로그 출력 등 측정에 잡음이 되는 설정은 끕니다
+ */
+public final class BenchmarkSupport {
+
+    public static final String BENCH_PASSWORD = "password1234";
+
+    private BenchmarkSupport() {
+    }
+
+    public static ConfigurableApplicationContext startApplication(Map<String, Object> properties) {
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("spring.profiles.active", "test");
+        defaults.put("spring.jpa.show-sql", false);
+        defaults.put("spring.jpa.properties.hibernate.format_sql", false);
+        defaults.put("spring.output.ansi.enabled", "never");
+        defaults.put("logging.level.root", "WARN");
+        //연결이 즉시 거부되는 주소로 설정하여 날씨 스냅샷 갱신이 측정에 영향을 주지 않도록 함
+        defaults.put("weather.api.url", "http://localhost:9");
+        defaults.put("search.index.enabled", false);
+        //적재 시 비밀번호 해싱 비용이 측정 준비 시간을 늘리지 않도록 최소 비용 사용
+        defaults.put("password.bcrypt.cost", 4);
+        defaults.putAll(properties);
+
+        return new SpringApplicationBuilder(MemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(defaults)
+                .run();
+    }
+
+    /**
+     * 벤치마크용 데이터를 합성 데이터셋 생성기로 적재합니다 (같은 spec이면 같은 데이터)
+     *
+     * @return 생성한 첫 번째 유저 ID
+     */
+    public static long seed(ConfigurableApplicationContext context, DatasetSpec spec) {
+        return context.getBean(DatasetGenerator.class).generate(spec).firstUserId();
+    }
+
+    //@Value 주입 필드를 스프링 없이 설정
+    public static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
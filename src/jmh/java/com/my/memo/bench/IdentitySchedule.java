@@ -0,0 +1,47 @@
+package com.my.memo.bench;
+
+import com.my.memo.domain.base.BaseEntity;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ID 할당기 변경 전과 같이 IDENTITY 전략으로 저장하는 일정 엔티티입니다 (ScheduleInsertBenchmark 비교용)
+ * <p>
+ * 컬럼은 schedules와 같고, 벤치마크가 만드는 schedules_identity 테이블에 저장합니다
+ * IDENTITY는 insert 할 때마다 생성된 키를 받아야 하므로 하이버네이트가 JDBC 배치를 사용하지 않습니다
+ */
+@Entity
+@Table(name = "schedules_identity")
+public class IdentitySchedule extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(length = 512)
+    private String content;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+    private boolean isPublic;
+    @Column(name = "user_id")
+    private Long userId;
+    private String weatherOnCreation;
+    private Long commentCnt = 0L;
+    private Long assignedUserCnt = 0L;
+
+    protected IdentitySchedule() {
+    }
+
+    public IdentitySchedule(String content, LocalDateTime startAt, LocalDateTime endAt, boolean isPublic, Long userId, String weatherOnCreation) {
+        this.content = content;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.isPublic = isPublic;
+        this.userId = userId;
+        this.weatherOnCreation = weatherOnCreation;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,82 @@
+package com.my.memo.bench;
+
+import com.my.memo.config.auth.jwt.AuthPrincipal;
+import com.my.memo.config.auth.jwt.JwtProvider;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급과 검증 비용을 측정합니다
+ * <p>
+ * verifyCached는 검증 결과 캐시 적중, verifyUncached는 매번 서명 검증을 수행하는 경우입니다
+ * verifyLegacyTripleParse는 검증/권한/ID 조회마다 파서를 새로 만들어 토큰을 세 번 파싱하던 기존 인증 경로입니다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JwtProvider cachedProvider;
+    private JwtProvider uncachedProvider;
+    private User user;
+    private String token;
+    private Key key;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        String secretKey = Base64.getEncoder().encodeToString(keyBytes);
+        key = Keys.hmacShaKeyFor(keyBytes);
+
+        cachedProvider = newProvider(secretKey, 10000);
+        uncachedProvider = newProvider(secretKey, 0);
+        user = User.builder().id(1L).name("bench").email("bench@memo.com").password("x").role(Role.USER).build();
+        token = cachedProvider.substringToken(cachedProvider.create(user));
+    }
+
+    @Benchmark
+    public String create() {
+        return cachedProvider.create(user);
+    }
+
+    @Benchmark
+    public AuthPrincipal verifyCached() {
+        return cachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public AuthPrincipal verifyUncached() {
+        return uncachedProvider.verify(token);
+    }
+
+    //기존 AuthInterceptor: validateToken -> getUserRole -> getUserId
+    @Benchmark
+    public void verifyLegacyTripleParse(Blackhole blackhole) {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        blackhole.consume(Role.valueOf(legacyClaims().get("role", String.class)));
+        blackhole.consume(legacyClaims().get("id", Long.class));
+    }
+
+    private Claims legacyClaims() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    private JwtProvider newProvider(String secretKey, int verifiedCacheMaxSize) {
+        JwtProvider provider = new JwtProvider();
+        BenchmarkSupport.setField(provider, "SECRET_KEY", secretKey);
+        BenchmarkSupport.setField(provider, "verifiedCacheMaxSize", verifiedCacheMaxSize);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,160 @@
+package com.my.memo.bench;
+
+import com.my.memo.domain.schedule.ScheduleRepository;
+import com.my.memo.domain.schedule.dto.ScheduleCursor;
+import com.my.memo.domain.schedule.dto.ScheduleWithCommentAndUserCountsDto;
+import com.my.memo.domain.user.User;
+import com.my.memo.domain.user.UserRepository;
+import com.my.memo.dto.schedule.req.PublicScheduleFilter;
+import com.my.memo.dto.schedule.req.UserScheduleFilter;
+import com.my.memo.search.ScheduleSearchCandidates;
+import com.my.memo.seed.DatasetSpec;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 일정/유저 일정 목록 쿼리의 JPQL 구성 + 실행 비용을 측정합니다 (H2, MySQL 모드)
+ * <p>
+ * 같은 깊이(depth 페이지 이후)를 오프셋 페이지네이션과 키셋(커서) 페이지네이션으로 각각 조회합니다
+ * publicSchedulesJoinCounts는 집계 컬럼(comment_cnt, assigned_user_cnt) 도입 전의 목록 쿼리를 옮긴 기준선입니다
+ * 당시처럼 댓글/배정 기록을 left join 한 뒤 일정별로 group by 하여 count(distinct)로 셉니다
+ * (당시 쿼리는 일정 엔티티를 group by 했으나, 지금의 DTO 생성자는 컬럼 값을 받으므로 같은 컬럼을 group by 하고, 정렬에는 커서와 같게 id를 더함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListingQueryBenchmark {
+
+    private static final long PAGE_SIZE = 10L;
+    private static final String JOIN_COUNTS_JPQL =
+            "select new com.my.memo.domain.schedule.dto.ScheduleWithCommentAndUserCountsDto(" +
+                    "s.id, u.name, s.content, s.isPublic, s.createdAt, s.lastModifiedAt, " +
+                    "count(distinct c.id), count(distinct su.id)) " +
+                    "from Schedule s " +
+                    "left join Comment c on s.id = c.schedule.id " +
+                    "left join ScheduleUser su on s.id = su.schedule.id " +
+                    "left join s.user u " +
+                    "where s.isPublic = true ";
+    private static final String JOIN_COUNTS_GROUP_BY =
+            "group by s.id, u.name, s.content, s.isPublic, s.createdAt, s.lastModifiedAt " +
+                    "order by s.lastModifiedAt desc, s.id desc";
+
+    @Param({"20000"})
+    private int scheduleCnt;
+
+    @Param({"OFFSET", "CURSOR"})
+    private String pagination;
+
+    //조회할 페이지 번호
+    @Param({"0", "100"})
+    private int depth;
+
+    private ConfigurableApplicationContext context;
+    private ScheduleRepository scheduleRepository;
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private User user;
+    private PublicScheduleFilter publicFilter;
+    private UserScheduleFilter userFilter;
+    private EntityManager em;
+    //키셋 조회 시 직전 페이지의 마지막 행 (기준선 쿼리에서 사용)
+    private ScheduleWithCommentAndUserCountsDto publicCursorRow;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkSupport.startApplication(Map.of());
+        long firstUserId = BenchmarkSupport.seed(context, DatasetSpec.builder()
+                .users(5)
+                .schedules(scheduleCnt)
+                .build());
+
+        scheduleRepository = context.getBean(ScheduleRepository.class);
+        em = context.getBean(EntityManager.class);
+        readOnlyTransactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransactionTemplate.setReadOnly(true);
+        user = context.getBean(UserRepository.class).findById(firstUserId).orElseThrow();
+
+        publicFilter = new PublicScheduleFilter();
+        publicFilter.setLimit(PAGE_SIZE);
+        publicFilter.setSkipTotals(true);
+        userFilter = new UserScheduleFilter();
+        userFilter.setLimit(PAGE_SIZE);
+        userFilter.setSkipTotals(true);
+
+        if ("OFFSET".equals(pagination)) {
+            publicFilter.setPage((long) depth);
+            userFilter.setPage((long) depth);
+        } else if (depth > 0) {
+            //직전 페이지의 마지막 행으로 커서를 만들어 같은 위치부터 조회
+            publicFilter.setPage((long) depth - 1);
+            List<ScheduleWithCommentAndUserCountsDto> previousPage = readOnlyTransactionTemplate.execute(status ->
+                    scheduleRepository.findPublicSchedulesWithFilters(publicFilter, ScheduleSearchCandidates.NONE));
+            publicCursorRow = lastRowOf(previousPage);
+            publicFilter.setCursor(cursorOf(previousPage));
+            publicFilter.setPage(0L);
+            userFilter.setPage((long) depth - 1);
+            userFilter.setCursor(cursorOf(readOnlyTransactionTemplate.execute(status ->
+                    scheduleRepository.findUserSchedulesWithFilters(user, userFilter))));
+            userFilter.setPage(0L);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ScheduleWithCommentAndUserCountsDto> publicSchedules() {
+        return readOnlyTransactionTemplate.execute(status ->
+                scheduleRepository.findPublicSchedulesWithFilters(publicFilter, ScheduleSearchCandidates.NONE));
+    }
+
+    @Benchmark
+    public List<ScheduleWithCommentAndUserCountsDto> publicSchedulesJoinCounts() {
+        return readOnlyTransactionTemplate.execute(status -> {
+            String jpql = JOIN_COUNTS_JPQL;
+            if (publicCursorRow != null) {
+                jpql += "and (s.lastModifiedAt < :cursorModifiedAt or (s.lastModifiedAt = :cursorModifiedAt and s.id < :cursorId)) ";
+            }
+            TypedQuery<ScheduleWithCommentAndUserCountsDto> query = em.createQuery(
+                    jpql + JOIN_COUNTS_GROUP_BY, ScheduleWithCommentAndUserCountsDto.class);
+            if (publicCursorRow != null) {
+                query.setParameter("cursorModifiedAt", publicCursorRow.getLastModifiedAt());
+                query.setParameter("cursorId", publicCursorRow.getId());
+            } else {
+                query.setFirstResult((int) (publicFilter.getPage() * PAGE_SIZE));
+            }
+            return query.setMaxResults((int) PAGE_SIZE + 1).getResultList();
+        });
+    }
+
+    @Benchmark
+    public List<ScheduleWithCommentAndUserCountsDto> userSchedules() {
+        return readOnlyTransactionTemplate.execute(status ->
+                scheduleRepository.findUserSchedulesWithFilters(user, userFilter));
+    }
+
+    @Benchmark
+    public int publicScheduleCount() {
+        return readOnlyTransactionTemplate.execute(status ->
+                scheduleRepository.countPublicSchedulesWithFilters(publicFilter, ScheduleSearchCandidates.NONE));
+    }
+
+    //목록 쿼리는 다음 페이지 여부 확인을 위해 limit + 1 건을 조회하므로 limit 번째 행이 페이지의 마지막 행
+    private String cursorOf(List<ScheduleWithCommentAndUserCountsDto> page) {
+        ScheduleWithCommentAndUserCountsDto last = lastRowOf(page);
+        return new ScheduleCursor(last.getLastModifiedAt(), last.getId()).encode();
+    }
+
+    private ScheduleWithCommentAndUserCountsDto lastRowOf(List<ScheduleWithCommentAndUserCountsDto> page) {
+        return page.get((int) Math.min(page.size(), PAGE_SIZE) - 1);
+    }
+}
@@ -0,0 +1,32 @@
+package com.my.memo.bench;
+
+import com.my.memo.util.CustomPasswordUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * cost(log rounds)별 BCrypt 검증 비용을 측정합니다 (로그인 한 번당 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class PasswordBenchmark {
+
+    @Param({"4", "8", "10", "12"})
+    private int cost;
+
+    private String hashedPassword;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        hashedPassword = CustomPasswordUtil.encode(BenchmarkSupport.BENCH_PASSWORD, cost);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return CustomPasswordUtil.matches(BenchmarkSupport.BENCH_PASSWORD, hashedPassword);
+    }
+}
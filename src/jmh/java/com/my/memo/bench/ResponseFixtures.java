@@ -0,0 +1,57 @@
+package com.my.memo.bench;
+
+import com.my.memo.domain.comment.Comment;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.schedule.dto.ScheduleWithCommentAndUserCountsDto;
+import com.my.memo.domain.scheduleUser.ScheduleUser;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 응답 DTO 매핑/직렬화 벤치마크에서 함께 사용하는 입력 데이터입니다
+ */
+final class ResponseFixtures {
+
+    final List<ScheduleWithCommentAndUserCountsDto> scheduleRows;
+    final Schedule schedule;
+    final Page<Comment> commentPage;
+    final List<ScheduleUser> assignedUserList;
+
+    ResponseFixtures(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = user(1L);
+
+        scheduleRows = IntStream.range(0, size)
+                .mapToObj(i -> new ScheduleWithCommentAndUserCountsDto((long) i, "user" + (i % 50), "일정 내용 " + i, true,
+                        now.minusDays(i), now.minusHours(i), (long) (i % 20), (long) (i % 5)))
+                .toList();
+
+        schedule = Schedule.builder()
+                .id(1L)
+                .content("일정 내용")
+                .startAt(now)
+                .endAt(now.plusHours(2))
+                .isPublic(true)
+                .user(owner)
+                .weatherOnCreation("맑음")
+                .build();
+        List<Comment> comments = IntStream.range(0, size)
+                .mapToObj(i -> Comment.builder().id((long) i).content("댓글 " + i).user(user(i + 2L)).schedule(schedule).build())
+                .toList();
+        commentPage = new PageImpl<>(comments, PageRequest.of(0, size), size * 10L);
+        assignedUserList = IntStream.range(0, 5)
+                .mapToObj(i -> ScheduleUser.builder().user(user(i + 100L)).schedule(schedule).build())
+                .toList();
+    }
+
+    private static User user(Long id) {
+        return User.builder().id(id).name("user" + id).email("user" + id + "@memo.com").password("x").role(Role.USER).build();
+    }
+}
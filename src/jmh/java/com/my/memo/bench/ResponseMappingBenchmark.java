@@ -0,0 +1,37 @@
+package com.my.memo.bench;
+
+import com.my.memo.dto.schedule.resp.PublicScheduleListRespDto;
+import com.my.memo.dto.schedule.resp.ScheduleRespDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 결과(프로젝션/엔티티)를 응답 DTO로 변환하는 비용을 측정합니다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+    //페이지 크기 (공개 일정 목록의 일정 수, 일정 상세의 댓글 수)
+    @Param({"10", "100"})
+    private int size;
+
+    private ResponseFixtures fixtures;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fixtures = new ResponseFixtures(size);
+    }
+
+    @Benchmark
+    public PublicScheduleListRespDto publicScheduleList() {
+        return new PublicScheduleListRespDto(fixtures.scheduleRows, true, size * 10, 10, 0, null);
+    }
+
+    @Benchmark
+    public ScheduleRespDto scheduleDetail() {
+        return new ScheduleRespDto(fixtures.schedule, fixtures.commentPage, fixtures.assignedUserList);
+    }
+}
@@ -0,0 +1,105 @@
+package com.my.memo.bench;
+
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.schedule.ScheduleRepository;
+import com.my.memo.domain.user.User;
+import com.my.memo.domain.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 일정 insert 처리량을 측정합니다 (한 트랜잭션에서 ROWS 건 저장, 결과는 행 1건당 시간)
+ * <p>
+ * batchSize=1은 JDBC 배치를 쓰지 않는 경우(행마다 왕복), 50은 기본 설정입니다
+ * insertSchedules는 현재의 테이블 기반 ID 할당기(pooled), insertSchedulesIdentity는 변경 전의 IDENTITY 전략으로
+ * 같은 컬럼/인덱스/외래 키를 가진 schedules_identity 테이블에 저장하므로 같은 실행에서 두 방식을 비교합니다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleInsertBenchmark {
+
+    private static final int ROWS = 500;
+    //schedules와 같은 구조에 id만 auto_increment로 채우는 비교용 테이블
+    private static final String IDENTITY_TABLE_DDL =
+            "create table if not exists schedules_identity (" +
+                    "is_public bit not null, created_at datetime(6), end_at datetime(6), " +
+                    "id bigint auto_increment primary key, last_modified_at datetime(6), start_at datetime(6), " +
+                    "user_id bigint, content varchar(512), weather_on_creation varchar(255), " +
+                    "comment_cnt bigint default 0 not null, assigned_user_cnt bigint default 0 not null, " +
+                    "foreign key (user_id) references users (id))";
+    private static final String IDENTITY_INDEX_DDL =
+            "create index if not exists idx_schedules_identity_user_modified on schedules_identity (user_id, last_modified_at, id)";
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ScheduleRepository scheduleRepository;
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager em;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkSupport.startApplication(Map.of("spring.jpa.properties.hibernate.jdbc.batch_size", batchSize));
+        scheduleRepository = context.getBean(ScheduleRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        em = context.getBean(EntityManager.class);
+        userId = userRepository.findAll().get(0).getId();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.execute(IDENTITY_TABLE_DDL);
+        jdbcTemplate.execute(IDENTITY_INDEX_DDL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Schedule> insertSchedules() {
+        LocalDateTime now = LocalDateTime.now();
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.getReferenceById(userId);
+            List<Schedule> scheduleList = IntStream.range(0, ROWS)
+                    .mapToObj(i -> Schedule.builder()
+                            .content("벤치마크 일정 " + i)
+                            .startAt(now)
+                            .endAt(now.plusHours(1))
+                            .isPublic(i % 2 == 0)
+                            .user(user)
+                            .weatherOnCreation("맑음")
+                            .build())
+                    .toList();
+            return scheduleRepository.saveAll(scheduleList);
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<IdentitySchedule> insertSchedulesIdentity() {
+        LocalDateTime now = LocalDateTime.now();
+        return transactionTemplate.execute(status -> {
+            List<IdentitySchedule> scheduleList = IntStream.range(0, ROWS)
+                    .mapToObj(i -> new IdentitySchedule("벤치마크 일정 " + i, now, now.plusHours(1), i % 2 == 0, userId, "맑음"))
+                    .toList();
+            scheduleList.forEach(em::persist);
+            return scheduleList;
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.my.memo.search;
+
+import com.my.memo.bench.BenchmarkSupport;
+import com.my.memo.domain.schedule.ScheduleRepository;
+import com.my.memo.domain.schedule.dto.ScheduleWithCommentAndUserCountsDto;
+import com.my.memo.dto.schedule.req.PublicScheduleFilter;
+import com.my.memo.seed.DatasetSpec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 일정 내용 검색을 LIKE 조회와 n-gram 색인 후보 조회로 각각 측정합니다
+ * <p>
+ * 색인을 시드 이후에 다시 구성해야 하므로 색인과 같은 패키지에 둡니다
+ * 색인 구성 전후 힙 사용량 차이로 색인의 메모리 사용량을 구해 시드 직후 출력합니다 (100만 건은 적재에 수 분, 힙 수 GB 필요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = "-Xmx8g")
+public class SearchBenchmark {
+
+    @Param({"20000", "1000000"})
+    private int scheduleCnt;
+
+    @Param({"LIKE", "NGRAM"})
+    private String mode;
+
+    //선택도가 높은 검색어와 후보가 많아 색인이 LIKE로 위임하는 검색어
+    @Param({"배포 12", "스터디"})
+    private String q;
+
+    private ConfigurableApplicationContext context;
+    private ScheduleRepository scheduleRepository;
+    private ScheduleSearchIndex scheduleSearchIndex;
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private PublicScheduleFilter filter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        //시작 시 백그라운드 색인 구성이 시드와 겹치지 않도록 꺼 둔 채로 띄우고, 시드 후에 켜서 직접 구성
+        context = BenchmarkSupport.startApplication(Map.of());
+        BenchmarkSupport.seed(context, DatasetSpec.builder()
+                .users(50)
+                .schedules(scheduleCnt)
+                .maxCommentsPerSchedule(0)
+                .maxAssigneesPerSchedule(0)
+                .build());
+
+        scheduleRepository = context.getBean(ScheduleRepository.class);
+        scheduleSearchIndex = context.getBean(ScheduleSearchIndex.class);
+        BenchmarkSupport.setField(scheduleSearchIndex, "enabled", true);
+        long heapBeforeBuild = usedHeapAfterGc();
+        scheduleSearchIndex.build();
+        long indexBytes = usedHeapAfterGc() - heapBeforeBuild;
+        NGramIndex contentIndex = scheduleSearchIndex.getContentIndex();
+        System.out.printf("[SearchBenchmark] 일정 %d건: 색인 문서 %d건, n-gram %d개, posting %d건, 힙 사용량 약 %d MB%n",
+                scheduleCnt, contentIndex.size(), contentIndex.gramCnt(), contentIndex.postingCnt(), indexBytes / (1024 * 1024));
+        readOnlyTransactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransactionTemplate.setReadOnly(true);
+
+        filter = new PublicScheduleFilter();
+        filter.setQ(q);
+        filter.setSkipTotals(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    public List<ScheduleWithCommentAndUserCountsDto> searchPublicSchedules() {
+        ScheduleSearchCandidates candidates = "NGRAM".equals(mode) ? scheduleSearchIndex.search(q, null) : ScheduleSearchCandidates.NONE;
+        return readOnlyTransactionTemplate.execute(status -> scheduleRepository.findPublicSchedulesWithFilters(filter, candidates));
+    }
+}
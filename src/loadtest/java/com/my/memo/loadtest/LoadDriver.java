@@ -0,0 +1,224 @@
+package com.my.memo.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * 열린 모델(open model)로 요청을 보내고 시나리오별 지연 시간을 HDR 히스토그램에 기록합니다
+ * <p>
+ * 요청은 응답을 기다리지 않고 지수 분포 간격(포아송 도착)으로 정해진 시각에 보내며,
+ * 지연 시간은 실제 전송 시각이 아니라 예정된 도착 시각부터 측정하므로 서버가 밀려도 대기 시간이 빠지지 않습니다 (coordinated omission 보정)
+ * 동시 요청이 maxInFlight를 넘으면 보내지 않고 dropped로 집계합니다
+ * <p>
+ * 버스트를 지정하면 측정 구간 중 일부 동안 기본 혼합과 별도로 버스트 시나리오를 추가 도착률로 보내고,
+ * 예정 도착 시각이 버스트 구간에 속한 요청은 "시나리오@burst" 이름으로 따로 집계하여 버스트 전후 지연 시간을 비교합니다
+ */
+final class LoadDriver {
+
+    static final String BURST_SUFFIX = "@burst";
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final HttpClient httpClient;
+    private final LoadTestData data;
+    private final List<Scenario> scenarios;
+    private final int[] cumulativeWeights;
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int maxInFlight;
+    private final Burst burst;
+    //측정 구간에서만 설정되는 버스트 구간 (System.nanoTime 기준)
+    private volatile long burstStartAt;
+    private volatile long burstEndAt;
+
+    LoadDriver(HttpClient httpClient, LoadTestData data, List<Scenario> scenarios, int maxInFlight, Burst burst) {
+        this.httpClient = httpClient;
+        this.data = data;
+        this.scenarios = scenarios;
+        this.maxInFlight = maxInFlight;
+        this.burst = burst;
+        this.cumulativeWeights = new int[scenarios.size()];
+        int sum = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            sum += scenarios.get(i).weight();
+            cumulativeWeights[i] = sum;
+            stats.put(scenarios.get(i).name(), new Stats(false));
+        }
+        if (burst != null) {
+            scenarios.forEach(scenario -> stats.put(scenario.name() + BURST_SUFFIX, new Stats(true)));
+            stats.putIfAbsent(burst.scenario().name() + BURST_SUFFIX, new Stats(true));
+        }
+    }
+
+    /**
+     * 워밍업 후 측정 구간 동안 부하를 보내고 시나리오별 결과를 반환합니다
+     *
+     * @param ratePerSecond 초당 평균 도착 수
+     */
+    Map<String, LoadReport.ScenarioResult> run(double ratePerSecond, Duration warmup, Duration duration, long randomSeed) {
+        SplittableRandom random = new SplittableRandom(randomSeed);
+
+        if (burst != null && burst.delay().plus(burst.duration()).compareTo(duration) > 0) {
+            throw new IllegalArgumentException("버스트 구간이 측정 구간을 벗어납니다: 시작 " + burst.delay() + ", 길이 " + burst.duration());
+        }
+
+        log.info("워밍업 {}초 (초당 {}건)", warmup.toSeconds(), ratePerSecond);
+        long warmupStartedAt = System.nanoTime();
+        drive(random, ratePerSecond, warmupStartedAt, warmupStartedAt + warmup.toNanos(), this::pick);
+        awaitInFlight(Duration.ofSeconds(30));
+        stats.values().forEach(Stats::reset);
+
+        log.info("측정 {}초 (초당 {}건)", duration.toSeconds(), ratePerSecond);
+        long startedAt = System.nanoTime();
+        Thread burstThread = startBurst(random.split(), startedAt);
+        drive(random, ratePerSecond, startedAt, startedAt + duration.toNanos(), this::pick);
+        joinBurst(burstThread);
+        awaitInFlight(Duration.ofSeconds(30));
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+        double burstSeconds = burst == null ? 0 : burst.duration().toNanos() / 1e9;
+
+        //버스트 구간 요청은 버스트 길이, 나머지는 그 외 구간 길이 기준으로 처리량 계산
+        Map<String, LoadReport.ScenarioResult> results = new LinkedHashMap<>();
+        stats.forEach((name, stat) -> results.put(name, stat.toResult(name, stat.burst ? burstSeconds : elapsedSeconds - burstSeconds)));
+        return results;
+    }
+
+    //기본 혼합과 별도 스레드에서 버스트 시나리오만 정해진 구간 동안 전송
+    private Thread startBurst(SplittableRandom random, long measureStartedAt) {
+        if (burst == null) {
+            return null;
+        }
+        burstStartAt = measureStartedAt + burst.delay().toNanos();
+        burstEndAt = burstStartAt + burst.duration().toNanos();
+        Thread thread = new Thread(() -> {
+            LockSupport.parkNanos(burstStartAt - System.nanoTime());
+            log.info("버스트 시작: {} 초당 {}건, {}초", burst.scenario().name(), burst.ratePerSecond(), burst.duration().toSeconds());
+            drive(random, burst.ratePerSecond(), burstStartAt, burstEndAt, r -> burst.scenario());
+            log.info("버스트 종료");
+        }, "loadtest-burst");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private void joinBurst(Thread burstThread) {
+        if (burstThread == null) {
+            return;
+        }
+        try {
+            burstThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drive(SplittableRandom random, double ratePerSecond, long startedAt, long endAt, Function<SplittableRandom, Scenario> next) {
+        long intendedAt = startedAt;
+
+        while (true) {
+            //포아송 도착: 지수 분포 간격
+            intendedAt += (long) (-Math.log(1 - random.nextDouble()) / ratePerSecond * 1e9);
+            if (intendedAt >= endAt) {
+                return;
+            }
+            long waitNanos = intendedAt - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            send(next.apply(random), random, intendedAt);
+        }
+    }
+
+    private void send(Scenario scenario, SplittableRandom random, long intendedAt) {
+        boolean inBurst = burst != null && intendedAt >= burstStartAt && intendedAt < burstEndAt;
+        Stats stat = stats.get(inBurst ? scenario.name() + BURST_SUFFIX : scenario.name());
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            stat.dropped.increment();
+            return;
+        }
+
+        httpClient.sendAsync(scenario.newRequest(data, random), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, e) -> {
+                    long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedAt);
+                    inFlight.decrementAndGet();
+                    if (e != null) {
+                        stat.errors.increment();
+                        log.debug("요청 실패: {}", scenario.name(), e);
+                        return;
+                    }
+                    stat.recorder.recordValue(latencyMicros);
+                    if (response.statusCode() >= 500) {
+                        stat.errors.increment();
+                    } else if (response.statusCode() >= 400) {
+                        stat.rejected.increment();
+                    }
+                });
+    }
+
+    private Scenario pick(SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private void awaitInFlight(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        if (inFlight.get() > 0) {
+            log.warn("응답을 기다리지 못한 요청 {}건", inFlight.get());
+        }
+    }
+
+    /**
+     * 측정 시작 후 delay가 지난 시점부터 duration 동안 scenario를 초당 ratePerSecond건 추가로 보냅니다
+     */
+    record Burst(Scenario scenario, double ratePerSecond, Duration delay, Duration duration) {
+    }
+
+    //응답 콜백은 여러 스레드에서 동시에 호출되므로 lock-free 레코더/카운터 사용
+    private static final class Stats {
+        private final boolean burst;
+        private final Recorder recorder = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        private Stats(boolean burst) {
+            this.burst = burst;
+        }
+
+        private void reset() {
+            recorder.reset();
+            errors.reset();
+            rejected.reset();
+            dropped.reset();
+        }
+
+        private LoadReport.ScenarioResult toResult(String name, double elapsedSeconds) {
+            Histogram histogram = recorder.getIntervalHistogram();
+            return new LoadReport.ScenarioResult(name, histogram, errors.sum(), rejected.sum(), dropped.sum(), elapsedSeconds);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.my.memo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 요약, 저장, 기준선(baseline) 비교를 담당합니다
+ * <p>
+ * 요약은 JSON(report.json)으로, 원본 히스토그램은 HdrHistogram 로그(histograms.hlog)로 저장합니다
+ * 기준선은 이전 실행의 report.json이며, 지연 시간 백분위나 처리량이 허용 비율 이상 나빠지면 회귀로 판단합니다
+ */
+final class LoadReport {
+
+    //지연 시간이 짧은 시나리오에서 측정 잡음을 회귀로 판단하지 않도록 두는 절대 허용치
+    private static final double LATENCY_SLACK_MS = 2.0;
+    private static final double ERROR_RATE_SLACK = 0.01;
+
+    private final double ratePerSecond;
+    private final Map<String, ScenarioResult> results;
+
+    LoadReport(double ratePerSecond, Map<String, ScenarioResult> results) {
+        this.ratePerSecond = ratePerSecond;
+        this.results = results;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n목표 도착률: 초당 %.1f건%n", ratePerSecond);
+        out.printf("%-28s %8s %9s %7s %7s %7s %9s %9s %9s %9s %9s%n",
+                "scenario", "count", "req/s", "errors", "4xx", "dropped", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        results.values().forEach(result -> {
+            Summary s = result.summary();
+            out.printf("%-28s %8d %9.1f %7d %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    s.scenario(), s.count(), s.throughput(), s.errors(), s.rejected(), s.dropped(), s.p50Ms(), s.p90Ms(), s.p99Ms(), s.p999Ms(), s.maxMs());
+        });
+    }
+
+    /**
+     * 같은 부하를 재생한 두 실행의 시나리오별 지연 시간을 나란히 출력합니다 (양쪽에 모두 있는 시나리오만)
+     */
+    static void printComparison(PrintStream out, String baseName, LoadReport base, String otherName, LoadReport other) {
+        out.printf("%n%s / %s 비교 (ms)%n", baseName, otherName);
+        out.printf("%-28s %19s %19s %19s %13s%n", "scenario", "p50", "p99", "p999", "errors+drop");
+        base.results.forEach((name, result) -> {
+            ScenarioResult otherResult = other.results.get(name);
+            if (otherResult == null) {
+                return;
+            }
+            Summary a = result.summary();
+            Summary b = otherResult.summary();
+            out.printf("%-28s %9.2f/%9.2f %9.2f/%9.2f %9.2f/%9.2f %6d/%6d%n", name,
+                    a.p50Ms(), b.p50Ms(), a.p99Ms(), b.p99Ms(), a.p999Ms(), b.p999Ms(),
+                    a.errors() + a.dropped(), b.errors() + b.dropped());
+        });
+    }
+
+    void write(ObjectMapper objectMapper, Path reportPath) throws IOException {
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("ratePerSecond", ratePerSecond);
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        results.forEach((name, result) -> summaries.put(name, result.summary()));
+        report.put("scenarios", summaries);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+
+        Path histogramPath = reportPath.resolveSibling("histograms.hlog");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(histogramPath))) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputComment("단위: 마이크로초, 태그: 시나리오 이름");
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            results.forEach((name, result) -> {
+                result.histogram().setTag(name);
+                writer.outputIntervalHistogram(result.histogram());
+            });
+        }
+    }
+
+    /**
+     * 기준선과 비교하여 회귀 목록을 반환합니다 (기준선에 없는 시나리오는 비교하지 않음)
+     */
+    List<String> compare(ObjectMapper objectMapper, Path baselinePath, double tolerance) throws IOException {
+        Map<String, Summary> baseline = new LinkedHashMap<>();
+        objectMapper.readTree(baselinePath.toFile()).path("scenarios").fields()
+                .forEachRemaining(entry -> baseline.put(entry.getKey(), objectMapper.convertValue(entry.getValue(), Summary.class)));
+
+        List<String> regressions = new ArrayList<>();
+        results.forEach((name, result) -> {
+            Summary before = baseline.get(name);
+            if (before == null) {
+                return;
+            }
+            Summary after = result.summary();
+            checkLatency(regressions, name, "p99", before.p99Ms(), after.p99Ms(), tolerance);
+            checkLatency(regressions, name, "p999", before.p999Ms(), after.p999Ms(), tolerance);
+            if (after.throughput() < before.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s 처리량 %.1f -> %.1f req/s", name, before.throughput(), after.throughput()));
+            }
+            if (after.errorRate() > before.errorRate() + ERROR_RATE_SLACK) {
+                regressions.add(String.format("%s 오류율 %.2f%% -> %.2f%%", name, before.errorRate() * 100, after.errorRate() * 100));
+            }
+        });
+        return regressions;
+    }
+
+    private void checkLatency(List<String> regressions, String name, String percentile, double before, double after, double tolerance) {
+        if (after > before * (1 + tolerance) + LATENCY_SLACK_MS) {
+            regressions.add(String.format("%s %s %.2fms -> %.2fms", name, percentile, before, after));
+        }
+    }
+
+    record ScenarioResult(String name, Histogram histogram, long errors, long rejected, long dropped, double elapsedSeconds) {
+
+        Summary summary() {
+            long count = histogram.getTotalCount();
+            return new Summary(name, count, count / elapsedSeconds, errors, rejected, dropped,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    /**
+     * report.json에 저장되는 시나리오별 요약 (throughput은 응답을 받은 요청 기준, dropped는 오류로 간주)
+     */
+    record Summary(String scenario, long count, double throughput, long errors, long rejected, long dropped,
+                   double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        double errorRate() {
+            long total = count + dropped;
+            return total == 0 ? 0 : (double) (errors + dropped) / total;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.my.memo.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 시나리오가 요청을 만들 때 사용하는 대상 데이터입니다
+ * <p>
+ * 기동된 애플리케이션의 DB에서 합성 데이터셋의 ID 표본을 읽고, 인증이 필요한 시나리오에서 쓸 토큰을 미리 발급받아 둡니다
+ * (토큰 발급은 측정 대상이 아니며, 로그인 자체는 login 시나리오로 측정)
+ */
+@Getter
+final class LoadTestData {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final String password;
+    private final ObjectMapper objectMapper;
+    private final long[] userIds;
+    private final List<String> loginEmails;
+    private final long[] scheduleIds;
+    private final long[] publicScheduleIds;
+    private final List<String> userTokens = new ArrayList<>();
+    private String adminToken;
+
+    private LoadTestData(String baseUrl, String password, ObjectMapper objectMapper, long[] userIds, List<String> loginEmails,
+                         long[] scheduleIds, long[] publicScheduleIds) {
+        this.baseUrl = baseUrl;
+        this.password = password;
+        this.objectMapper = objectMapper;
+        this.userIds = userIds;
+        this.loginEmails = loginEmails;
+        this.scheduleIds = scheduleIds;
+        this.publicScheduleIds = publicScheduleIds;
+    }
+
+    static LoadTestData load(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, String baseUrl, String password, int sampleSize) {
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "select id from users where email like 'seed%@memo.com' and deleted = false order by id limit ?", Long.class, sampleSize);
+        List<String> loginEmails = userIds.stream().map(id -> "seed" + id + "@memo.com").toList();
+        if (userIds.isEmpty()) {
+            throw new IllegalStateException("합성 데이터셋이 없습니다. seed 프로필로 실행하거나 seed 데이터가 있는 DB를 지정하세요");
+        }
+        long[] scheduleIds = sample(jdbcTemplate, "select id from schedules order by id limit ?", sampleSize);
+        long[] publicScheduleIds = sample(jdbcTemplate, "select id from schedules where is_public = true order by id limit ?", sampleSize);
+
+        return new LoadTestData(baseUrl, password, objectMapper, userIds.stream().mapToLong(Long::longValue).toArray(), loginEmails,
+                scheduleIds, publicScheduleIds);
+    }
+
+    private static long[] sample(JdbcTemplate jdbcTemplate, String sql, int sampleSize) {
+        return jdbcTemplate.queryForList(sql, Long.class, sampleSize).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    void login(HttpClient httpClient, String adminEmail, String adminPassword, int tokenCnt) throws IOException, InterruptedException {
+        adminToken = loginFor(httpClient, adminEmail, adminPassword);
+        for (int i = 0; i < Math.min(tokenCnt, loginEmails.size()); i++) {
+            userTokens.add(loginFor(httpClient, loginEmails.get(i), password));
+        }
+    }
+
+    private String loginFor(HttpClient httpClient, String email, String rawPassword) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(post("/api/login", null, Map.of("email", email, "password", rawPassword)),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패: " + email + " (" + response.statusCode() + ")");
+        }
+        return response.headers().firstValue("Authorization").orElseThrow();
+    }
+
+    HttpRequest get(String path, String token) {
+        return builder(path, token).GET().build();
+    }
+
+    HttpRequest post(String path, String token, Object body) {
+        try {
+            return builder(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return builder;
+    }
+
+    long randomUserId(SplittableRandom random) {
+        return userIds[random.nextInt(userIds.length)];
+    }
+
+    String randomLoginEmail(SplittableRandom random) {
+        return loginEmails.get(random.nextInt(loginEmails.size()));
+    }
+
+    String randomUserToken(SplittableRandom random) {
+        return userTokens.get(random.nextInt(userTokens.size()));
+    }
+
+    long randomScheduleId(SplittableRandom random) {
+        return scheduleIds[random.nextInt(scheduleIds.length)];
+    }
+
+    long randomPublicScheduleId(SplittableRandom random) {
+        return publicScheduleIds[random.nextInt(publicScheduleIds.length)];
+    }
+}
@@ -0,0 +1,151 @@
+package com.my.memo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.memo.MemoApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 애플리케이션을 localhost 임의 포트로 띄우고 시나리오 혼합을 재생하는 부하 테스트 진입점입니다
+ * <p>
+ * 기본값은 test 프로필(H2)에 seed 프로필로 합성 데이터셋을 적재한 뒤 실행하며, 모든 설정은 명령행 인자로 덮어씁니다
+ * 예: ./gradlew loadTest --args='--seed.users=100000 --seed.schedules=1000000 --loadtest.rate=300 --loadtest.duration=2m'
+ * <p>
+ * 기준선(loadtest.baseline)이 있으면 비교하여 회귀가 있을 때 종료 코드 1로 끝납니다
+ * <p>
+ * loadtest.burst.rate를 지정하면 측정 구간 중간에 로그인 버스트를 추가로 보내고,
+ * loadtest.compare-inline-hashing=true 이면 해싱 동시 실행 수를 요청 스레드 수만큼 풀어 둔(해싱 풀 도입 이전과 같은) 설정으로
+ * 애플리케이션을 한 번 더 띄워 같은 부하를 재생한 뒤 두 결과를 나란히 출력합니다
+ */
+public final class LoadTestMain {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestMain.class);
+    private static final String CURRENT = "current";
+    private static final String INLINE_HASHING = "inline-hashing";
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("spring.profiles.active", "test,seed");
+        defaults.put("server.port", 0);
+        defaults.put("spring.jpa.show-sql", false);
+        defaults.put("spring.jpa.properties.hibernate.format_sql", false);
+        defaults.put("spring.output.ansi.enabled", "never");
+        defaults.put("logging.level.root", "WARN");
+        defaults.put("logging.level.com.my.memo", "INFO");
+        defaults.put("logging.level.org.hibernate.orm.jdbc.bind", "WARN");
+        //연결이 즉시 거부되는 주소로 설정하여 외부 날씨 API 지연이 결과에 섞이지 않도록 함
+        defaults.put("weather.api.url", "http://localhost:9");
+
+        Map<String, Map<String, Object>> variants = new LinkedHashMap<>();
+        variants.put(CURRENT, Map.of());
+        if (Boolean.parseBoolean(new SimpleCommandLinePropertySource(args).getProperty("loadtest.compare-inline-hashing"))) {
+            //요청 스레드(Tomcat 기본 200개)마다 바로 해싱하던 이전 경로와 같이 동시 해싱 수를 제한하지 않음
+            //같은 JVM에서 다시 적재하므로 인메모리 DB 이름을 따로 지정
+            variants.put(INLINE_HASHING, Map.of(
+                    "password.bcrypt.pool-size", 200,
+                    "password.bcrypt.queue-capacity", 10_000,
+                    "spring.datasource.url", "jdbc:h2:mem:loadtest_inline;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false"));
+        }
+
+        int exitCode = 0;
+        Map<String, LoadReport> reports = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, Object>> variant : variants.entrySet()) {
+            Map<String, Object> properties = new HashMap<>(defaults);
+            properties.putAll(variant.getValue());
+            log.info("실행: {}", variant.getKey());
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MemoApplication.class)
+                    .properties(properties)
+                    .run(args)) {
+                exitCode = Math.max(exitCode, run(context, variant.getKey(), reports));
+            }
+        }
+        if (reports.size() > 1) {
+            LoadReport.printComparison(System.out, CURRENT, reports.get(CURRENT), INLINE_HASHING, reports.get(INLINE_HASHING));
+        }
+        System.exit(exitCode);
+    }
+
+    private static int run(ConfigurableApplicationContext context, String variant, Map<String, LoadReport> reports) throws Exception {
+        Environment env = context.getEnvironment();
+        double rate = env.getProperty("loadtest.rate", Double.class, 100.0);
+        Duration warmup = env.getProperty("loadtest.warmup", Duration.class, Duration.ofSeconds(15));
+        Duration duration = env.getProperty("loadtest.duration", Duration.class, Duration.ofSeconds(60));
+        int maxInFlight = env.getProperty("loadtest.max-in-flight", Integer.class, 1000);
+        int sampleSize = env.getProperty("loadtest.sample-size", Integer.class, 10_000);
+        int tokenCnt = env.getProperty("loadtest.tokens", Integer.class, 20);
+        long randomSeed = env.getProperty("loadtest.random-seed", Long.class, 42L);
+        double tolerance = env.getProperty("loadtest.tolerance", Double.class, 0.2);
+        Path reportPath = Path.of(env.getProperty("loadtest.report", "build/results/loadtest/report.json"));
+        Path baselinePath = Path.of(env.getProperty("loadtest.baseline", "src/loadtest/resources/baseline.json"));
+        List<Scenario> scenarios = Scenarios.mix(env.getProperty("loadtest.mix"));
+        double burstRate = env.getProperty("loadtest.burst.rate", Double.class, 0.0);
+        LoadDriver.Burst burst = burstRate <= 0 ? null : new LoadDriver.Burst(
+                Scenarios.byName(env.getProperty("loadtest.burst.scenario", "login")),
+                burstRate,
+                env.getProperty("loadtest.burst.delay", Duration.class, Duration.ofSeconds(20)),
+                env.getProperty("loadtest.burst.duration", Duration.class, Duration.ofSeconds(10)));
+        if (!variant.equals(CURRENT)) {
+            //비교 실행 결과는 하위 디렉터리에 저장하고 기준선과는 비교하지 않음
+            reportPath = reportPath.resolveSibling(variant).resolve(reportPath.getFileName());
+        }
+
+        String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        ExecutorService executor = Executors.newFixedThreadPool(env.getProperty("loadtest.client-threads", Integer.class, 8));
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        try {
+            LoadTestData data = LoadTestData.load(context.getBean(JdbcTemplate.class), objectMapper, baseUrl,
+                    env.getProperty("seed.password", "password1234"), sampleSize);
+            data.login(httpClient, env.getProperty("loadtest.admin.email", "root1234@naver.com"),
+                    env.getProperty("loadtest.admin.password", "root1234"), tokenCnt);
+
+            LoadDriver driver = new LoadDriver(httpClient, data, scenarios, maxInFlight, burst);
+            LoadReport report = new LoadReport(rate, driver.run(rate, warmup, duration, randomSeed));
+            report.print(System.out);
+            report.write(objectMapper, reportPath);
+            reports.put(variant, report);
+            log.info("결과 저장: {}", reportPath.toAbsolutePath());
+
+            if (!variant.equals(CURRENT)) {
+                return 0;
+            }
+            if (!Files.exists(baselinePath)) {
+                log.info("기준선 없음: {} (이번 report.json을 복사하면 다음 실행부터 비교)", baselinePath);
+                return 0;
+            }
+            List<String> regressions = report.compare(objectMapper, baselinePath, tolerance);
+            if (regressions.isEmpty()) {
+                log.info("기준선 대비 회귀 없음 (허용 비율 {}%)", (int) (tolerance * 100));
+                return 0;
+            }
+            regressions.forEach(regression -> log.error("회귀: {}", regression));
+            return 1;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
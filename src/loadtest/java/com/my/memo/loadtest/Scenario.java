@@ -0,0 +1,21 @@
+package com.my.memo.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+/**
+ * 부하 테스트에서 재생할 요청 하나의 종류입니다
+ * <p>
+ * weight는 전체 혼합 비율에서 이 시나리오가 차지하는 상대 가중치이며, 요청은 도착 시점마다 새로 만듭니다
+ */
+record Scenario(String name, int weight, BiFunction<LoadTestData, SplittableRandom, HttpRequest> requestFactory) {
+
+    HttpRequest newRequest(LoadTestData data, SplittableRandom random) {
+        return requestFactory.apply(data, random);
+    }
+
+    Scenario withWeight(int weight) {
+        return new Scenario(name, weight, requestFactory);
+    }
+}
@@ -0,0 +1,98 @@
+package com.my.memo.loadtest;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 기본 시나리오 혼합입니다 (읽기 위주, 쓰기는 댓글 작성/유저 배정)
+ * <p>
+ * 가중치는 --loadtest.mix=login=1,public=10 처럼 시나리오 이름별로 덮어쓸 수 있고, 0이면 제외됩니다
+ */
+final class Scenarios {
+
+    private static final String[] SEARCH_WORDS = {"회의", "과제", "운동", "스터디", "배포", "리뷰", "deploy", "review"};
+
+    private Scenarios() {
+    }
+
+    static List<Scenario> defaults() {
+        return List.of(
+                new Scenario("login", 2, (data, random) -> data.post("/api/login", null,
+                        Map.of("email", data.randomLoginEmail(random), "password", data.getPassword()))),
+
+                new Scenario("public", 20, (data, random) -> publicSchedules(data, random, Map.of())),
+                new Scenario("public:modifiedAt", 10, (data, random) -> publicSchedules(data, random, Map.of("modifiedAt", "1w"))),
+                new Scenario("public:period", 5, (data, random) -> {
+                    LocalDate end = LocalDate.now();
+                    return publicSchedules(data, random, Map.of("startModifiedAt", end.minusDays(30).toString(), "endModifiedAt", end.toString()));
+                }),
+                new Scenario("public:authorName", 5, (data, random) -> publicSchedules(data, random, Map.of("authorName", "u" + data.randomUserId(random)))),
+                new Scenario("public:q", 10, (data, random) -> publicSchedules(data, random, Map.of("q", randomWord(random)))),
+                new Scenario("public:modifiedAt+q", 5, (data, random) -> publicSchedules(data, random,
+                        Map.of("modifiedAt", "1m", "q", randomWord(random), "skipTotals", "true"))),
+
+                //대부분 첫 페이지, 일부는 댓글 다음 페이지까지 조회
+                new Scenario("schedule-detail", 25, (data, random) -> data.get("/api/schedules/" + data.randomPublicScheduleId(random)
+                        + "?page=" + (random.nextInt(10) < 7 ? 0 : 1 + random.nextInt(3)) + "&limit=10", data.randomUserToken(random))),
+
+                new Scenario("comment-create", 8, (data, random) -> data.post("/api/schedules/" + data.randomPublicScheduleId(random) + "/comments",
+                        data.randomUserToken(random), Map.of("content", "부하 테스트 댓글 " + random.nextInt(1_000_000)))),
+
+                //관리자 권한으로 임의 일정에 임의 유저를 배정 (인원 초과/중복 배정은 4xx로 집계)
+                new Scenario("schedule-assign", 2, (data, random) -> data.post("/api/schedules/" + data.randomScheduleId(random) + "/users",
+                        data.getAdminToken(), Map.of("userIdList", List.of(Map.of("userId", data.randomUserId(random))))))
+        );
+    }
+
+    /**
+     * 기본 혼합에 name=weight 목록을 적용합니다
+     */
+    static List<Scenario> mix(String spec) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        if (spec != null && !spec.isBlank()) {
+            for (String entry : spec.split(",")) {
+                String[] pair = entry.trim().split("=");
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("잘못된 시나리오 가중치: " + entry);
+                }
+                weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+            }
+        }
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (Scenario scenario : defaults()) {
+            Integer weight = weights.remove(scenario.name());
+            Scenario applied = weight == null ? scenario : scenario.withWeight(weight);
+            if (applied.weight() > 0) {
+                scenarios.add(applied);
+            }
+        }
+        if (!weights.isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 시나리오: " + weights.keySet());
+        }
+        return scenarios;
+    }
+
+    /**
+     * 가중치와 관계없이 이름으로 기본 시나리오를 찾습니다 (버스트 시나리오 지정용)
+     */
+    static Scenario byName(String name) {
+        return defaults().stream()
+                .filter(scenario -> scenario.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 시나리오: " + name));
+    }
+
+    private static HttpRequest publicSchedules(LoadTestData data, SplittableRandom random, Map<String, String> params) {
+        StringBuilder query = new StringBuilder("?page=").append(random.nextInt(10) < 8 ? 0 : random.nextInt(20)).append("&limit=10");
+        params.forEach((key, value) -> query.append('&').append(key).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return data.get("/api/public-schedules" + query, null);
+    }
+
+    private static String randomWord(SplittableRandom random) {
+        return SEARCH_WORDS[random.nextInt(SEARCH_WORDS.length)];
+    }
+}
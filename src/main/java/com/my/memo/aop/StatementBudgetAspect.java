@@ -0,0 +1,130 @@
+package com.my.memo.aop;
+
+import com.my.memo.aop.valid.StatementBudget;
+import com.my.memo.ex.StatementBudgetExceededException;
+import com.my.memo.metrics.RequestQueryStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * {@link StatementBudget}이 붙은 메서드가 실행한 SQL 문 수를 세어 예산 초과를 보고합니다
+ * <p>
+ * SQL 문은 datasource-proxy로 센 요청 단위 집계(RequestQueryStats)에서 메서드 실행 전후 차이로 구하며,
+ * 요청 밖(테스트에서 서비스 직접 호출 등)에서 호출되면 메서드 실행 동안만 따로 셉니다
+ * 보고에는 두 번 이상 실행된 SQL 문을 횟수 순으로 포함하므로 N+1 지점을 바로 찾을 수 있습니다
+ * <p>
+ * - OFF: 검사하지 않음
+ * - LOG: sample-rate 비율의 호출만 검사하여 경고 로그와 메트릭(statement.budget.exceeded)을 남김
+ * - FAIL: 모든 호출을 검사하고 초과 시 StatementBudgetExceededException 발생 (테스트용)
+ * <p>
+ * 커밋 시점의 flush도 포함하도록 트랜잭션 프록시보다 바깥에서 실행합니다
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class StatementBudgetAspect {
+
+    private static final int REPORTED_STATEMENTS = 5;
+    private static final int MAX_SQL_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${statement-budget.mode:LOG}")
+    private Mode mode;
+
+    @Value("${statement-budget.sample-rate:1.0}")
+    private double sampleRate;
+
+    @Around("@annotation(com.my.memo.aop.valid.StatementBudget) || @within(com.my.memo.aop.valid.StatementBudget)")
+    public Object checkBudget(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        if (mode == Mode.OFF || (mode == Mode.LOG && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return proceedingJoinPoint.proceed();
+        }
+
+        RequestQueryStats stats = RequestQueryStats.current();
+        boolean ownScope = stats == null;
+        if (ownScope) {
+            stats = RequestQueryStats.begin();
+        }
+        int startedCnt = stats.getStatementCnt();
+        Map<String, Integer> startedSqlCounts = stats.startTracking();
+
+        Object result;
+        String report;
+        try {
+            result = proceedingJoinPoint.proceed();
+            report = check(proceedingJoinPoint, stats.getStatementCnt() - startedCnt, stats.getSqlCounts(), startedSqlCounts);
+        } finally {
+            stats.stopTracking();
+            if (ownScope) {
+                RequestQueryStats.end();
+            }
+        }
+
+        if (report != null && mode == Mode.FAIL) {
+            throw new StatementBudgetExceededException(report);
+        }
+        return result;
+    }
+
+    //예외 없이 끝난 실행만 검사 (예외로 중단된 실행은 원래 예외를 그대로 전달)
+    private String check(ProceedingJoinPoint proceedingJoinPoint, int executedCnt, Map<String, Integer> sqlCounts, Map<String, Integer> startedSqlCounts) {
+        Method method = ((MethodSignature) proceedingJoinPoint.getSignature()).getMethod();
+        StatementBudget budget = findBudget(method, proceedingJoinPoint.getTarget().getClass());
+        if (budget == null || executedCnt <= budget.value()) {
+            return null;
+        }
+
+        String methodName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        String repeated = sqlCounts.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue() - startedSqlCounts.getOrDefault(entry.getKey(), 0)))
+                .filter(entry -> entry.getValue() > 1)
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(REPORTED_STATEMENTS)
+                .map(entry -> "\n  [" + entry.getValue() + "회] " + abbreviate(entry.getKey()))
+                .collect(Collectors.joining());
+        String report = String.format("SQL 문 예산 초과: %s 실행 %d회 (예산 %d회)%s", methodName, executedCnt, budget.value(),
+                repeated.isEmpty() ? "" : "\n반복 실행된 SQL:" + repeated);
+
+        Counter.builder("statement.budget.exceeded")
+                .tag("method", methodName)
+                .register(meterRegistry)
+                .increment();
+        log.warn(report);
+        return report;
+    }
+
+    private StatementBudget findBudget(Method method, Class<?> targetClass) {
+        StatementBudget budget = AnnotationUtils.findAnnotation(method, StatementBudget.class);
+        return budget != null ? budget : AnnotationUtils.findAnnotation(targetClass, StatementBudget.class);
+    }
+
+    private String abbreviate(String sql) {
+        String normalized = sql.replaceAll("\\s+", " ").trim();
+        return normalized.length() > MAX_SQL_LENGTH ? normalized.substring(0, MAX_SQL_LENGTH) + "..." : normalized;
+    }
+
+    public enum Mode {
+        OFF, LOG, FAIL
+    }
+}
@@ -0,0 +1,17 @@
+package com.my.memo.aop.valid;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드(또는 클래스의 모든 메서드) 한 번 실행에 허용하는 최대 SQL 문 수입니다
+ * <p>
+ * 초과 시 동작은 statement-budget.mode 설정을 따릅니다 (StatementBudgetAspect 참고)
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+    int value();
+}
@@ -0,0 +1,182 @@
+package com.my.memo.cache;
+
+import com.my.memo.dto.schedule.req.PublicScheduleFilter;
+import com.my.memo.dto.schedule.resp.PublicScheduleListRespDto;
+import com.my.memo.event.ScheduleChangedEvent;
+import com.my.memo.event.ScheduleCountsChangedEvent;
+import com.my.memo.event.SchedulesImportedEvent;
+import com.my.memo.event.UserChangedEvent;
+import com.my.memo.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 일정 목록 응답(페이지 단위)을 캐싱합니다
+ * <p>
+ * 키는 필터 값 전체를 그대로 담은 레코드이며, 최대 개수를 넘으면 가장 오래 사용되지 않은 페이지부터 제거합니다 (LRU)
+ * 각 페이지에 포함된 일정 ID를 함께 보관하여 변경 이벤트가 커밋되면 영향을 받는 페이지만 무효화합니다
+ * - 댓글/배정 인원 변경: 해당 일정이 포함된 페이지만 (정렬 순서는 바뀌지 않음)
+ * - 일정 생성/수정/삭제: offset 페이지 전체(순서가 밀림), 전체 개수를 포함한 페이지, 해당 일정이 포함된 커서 페이지
+ * - 유저 수정/삭제: 전체 (작성자명 변경, 작성자 일정 일괄 삭제)
+ * 상대 기간 필터(modifiedAt)는 시간이 흐르며 결과가 바뀌므로 캐싱하지 않으며, 캐싱 여부와 관계없이 같은 키의 동시 조회는 한 번만 실행합니다
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicFeedCache {
+
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final SingleFlight<FeedKey, PublicScheduleListRespDto> singleFlight = new SingleFlight<>();
+    //조회 중에 무효화가 일어나면 이전 값이 다시 저장되지 않도록 사용하는 세대 값
+    private final AtomicLong generation = new AtomicLong();
+    private Map<FeedKey, Entry> entries;
+
+    @Value("${schedule.feed-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${schedule.feed-cache.max-size:1000}")
+    private int maxSize;
+
+    //이벤트가 누락되더라도 오래된 페이지가 남지 않도록 하는 최대 보관 시간
+    @Value("${schedule.feed-cache.ttl:5m}")
+    private Duration ttl;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter sizeEvictionCounter;
+    private Counter invalidationCounter;
+
+    @PostConstruct
+    public void init() {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FeedKey, Entry> eldest) {
+                if (size() > maxSize) {
+                    sizeEvictionCounter.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        hitCounter = Counter.builder("schedule.feed.cache.requests").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("schedule.feed.cache.requests").tag("result", "miss").register(meterRegistry);
+        sizeEvictionCounter = Counter.builder("schedule.feed.cache.evictions").tag("cause", "size").register(meterRegistry);
+        invalidationCounter = Counter.builder("schedule.feed.cache.evictions").tag("cause", "invalidated").register(meterRegistry);
+        Gauge.builder("schedule.feed.cache.size", this, PublicFeedCache::size).register(meterRegistry);
+        Gauge.builder("schedule.feed.cache.hit.ratio", this, PublicFeedCache::hitRatio).register(meterRegistry);
+    }
+
+    public PublicScheduleListRespDto get(PublicScheduleFilter filter, Supplier<PublicScheduleListRespDto> loader) {
+        FeedKey key = FeedKey.of(filter);
+        if (!enabled || filter.getModifiedAt() != null) {
+            return singleFlight.execute(key, loader);
+        }
+
+        long now = clock.millis();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() > now) {
+                hitCounter.increment();
+                return entry.value();
+            }
+        }
+        missCounter.increment();
+
+        boolean cursorPage = filter.getCursor() != null;
+        boolean hasTotals = !Boolean.TRUE.equals(filter.getSkipTotals());
+        return singleFlight.execute(key, () -> {
+            long loadedGeneration = generation.get();
+            PublicScheduleListRespDto value = loader.get();
+            store(key, value, loadedGeneration, cursorPage, hasTotals);
+            return value;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        Long scheduleId = event.getScheduleId();
+        invalidate(entry -> !entry.cursorPage() || entry.hasTotals() || entry.scheduleIds().contains(scheduleId));
+    }
+
+    //새로 생성된 일정은 기존 페이지에 포함되어 있지 않으므로 첫 페이지와 전체 개수가 포함된 페이지만 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchedulesImported(SchedulesImportedEvent event) {
+        invalidate(entry -> !entry.cursorPage() || entry.hasTotals());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleCountsChanged(ScheduleCountsChangedEvent event) {
+        Long scheduleId = event.getScheduleId();
+        invalidate(entry -> entry.scheduleIds().contains(scheduleId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.CREATED) {
+            return;
+        }
+        invalidate(entry -> true);
+    }
+
+    private synchronized void store(FeedKey key, PublicScheduleListRespDto value, long loadedGeneration, boolean cursorPage, boolean hasTotals) {
+        if (loadedGeneration != generation.get()) {
+            return;
+        }
+        Set<Long> scheduleIds = value.getScheduleRespDtoList().stream()
+                .map(PublicScheduleListRespDto.ScheduleRespDto::getId)
+                .collect(Collectors.toUnmodifiableSet());
+        entries.put(key, new Entry(value, scheduleIds, cursorPage, hasTotals, clock.millis() + ttl.toMillis()));
+    }
+
+    private synchronized void invalidate(Predicate<Entry> affected) {
+        generation.incrementAndGet();
+        int before = entries.size();
+        entries.values().removeIf(affected);
+        int removedCnt = before - entries.size();
+        if (removedCnt > 0) {
+            invalidationCounter.increment(removedCnt);
+            log.debug("공개 일정 목록 캐시 무효화: {}건", removedCnt);
+        }
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private double hitRatio() {
+        double total = hitCounter.count() + missCounter.count();
+        return total == 0 ? 0 : hitCounter.count() / total;
+    }
+
+    //검색어 등을 문자열로 이어 붙이면 구분자나 앞뒤 공백이 든 값끼리 키가 겹칠 수 있으므로, 조회에 쓰이는 값을 가공 없이 그대로 비교
+    private record FeedKey(Long page, Long limit, String cursor, Boolean skipTotals, String modifiedAt,
+                           String startModifiedAt, String endModifiedAt, String authorName, String q) {
+
+        static FeedKey of(PublicScheduleFilter filter) {
+            return new FeedKey(filter.getPage(), filter.getLimit(), filter.getCursor(), filter.getSkipTotals(), filter.getModifiedAt(),
+                    filter.getStartModifiedAt(), filter.getEndModifiedAt(), filter.getAuthorName(), filter.getQ());
+        }
+    }
+
+    private record Entry(PublicScheduleListRespDto value, Set<Long> scheduleIds, boolean cursorPage, boolean hasTotals,
+                         long expiresAt) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.my.memo.cache;
+
+import com.my.memo.dto.schedule.req.PublicScheduleFilter;
+import com.my.memo.dto.schedule.req.UserScheduleFilter;
+import com.my.memo.event.ScheduleChangedEvent;
+import com.my.memo.event.SchedulesImportedEvent;
+import com.my.memo.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 일정 목록 조회 시 사용하는 전체 개수(totalCounts)를 캐싱합니다
+ * <p>
+ * 키는 페이지/커서를 제외한 필터 값을 그대로 담은 레코드이며 두 가지 모드를 지원합니다
+ * - TTL: 일정 시간이 지나면 만료
+ * - WRITE_INVALIDATED: 일정/유저 변경 이벤트가 커밋되면 무효화 (상대 기간 필터(modifiedAt)는 시간이 흐르며 결과가 바뀌므로 TTL도 함께 적용)
+ * <p>
+ * 무효화는 인스턴스 로컬 메모리 기준이므로 여러 인스턴스로 운영하는 경우 TTL 모드를 사용합니다
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleCountCache {
+
+    private final Clock clock;
+    private final Map<CountKey, Entry> cache = new ConcurrentHashMap<>();
+    //조회 중에 무효화가 일어나면 이전 값이 다시 저장되지 않도록 사용하는 세대 값
+    private final AtomicLong generation = new AtomicLong();
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${schedule.count-cache.mode:WRITE_INVALIDATED}")
+    private Mode mode;
+
+    @Value("${schedule.count-cache.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${schedule.count-cache.max-size:10000}")
+    private int maxSize;
+
+    public int getPublicCount(PublicScheduleFilter filter, IntSupplier loader) {
+        CountKey key = new CountKey(null, filter.getModifiedAt(), filter.getStartModifiedAt(), filter.getEndModifiedAt(),
+                filter.getAuthorName(), filter.getQ());
+        return get(key, filter.getModifiedAt() != null, loader);
+    }
+
+    public int getUserCount(Long userId, UserScheduleFilter filter, IntSupplier loader) {
+        CountKey key = new CountKey(userId, filter.getModifiedAt(), filter.getStartModifiedAt(), filter.getEndModifiedAt(), null, null);
+        return get(key, filter.getModifiedAt() != null, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (mode != Mode.WRITE_INVALIDATED) {
+            return;
+        }
+        invalidate(key -> key.isPublic() || key.isOwnedBy(event.getOwnerId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchedulesImported(SchedulesImportedEvent event) {
+        if (mode != Mode.WRITE_INVALIDATED) {
+            return;
+        }
+        invalidate(key -> key.isPublic() || key.isOwnedBy(event.getOwnerId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        //가입 직후에는 일정이 없으므로 개수 변화 없음
+        if (mode != Mode.WRITE_INVALIDATED || event.getType() == UserChangedEvent.Type.CREATED) {
+            return;
+        }
+        //작성자명 필터 결과가 달라질 수 있으므로 공개 일정 개수도 함께 무효화
+        invalidate(key -> key.isPublic() || key.isOwnedBy(event.getUserId()));
+    }
+
+    private int get(CountKey key, boolean relativePeriod, IntSupplier loader) {
+        long now = clock.millis();
+        Entry entry = cache.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.count;
+        }
+
+        long loadedGeneration = generation.get();
+        int count = loader.getAsInt();
+        store(key, count, loadedGeneration, relativePeriod, now);
+        return count;
+    }
+
+    //세대 비교와 저장을 무효화와 같은 락 안에서 수행하여 무효화 이전에 조회한 값이 저장되지 않도록 함
+    private synchronized void store(CountKey key, int count, long loadedGeneration, boolean relativePeriod, long now) {
+        if (loadedGeneration != generation.get()) {
+            return;
+        }
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(e -> e.expiresAt <= now);
+        }
+        if (cache.size() < maxSize) {
+            boolean useTtl = mode == Mode.TTL || relativePeriod;
+            cache.put(key, new Entry(count, useTtl ? now + ttl.toMillis() : Long.MAX_VALUE));
+        }
+    }
+
+    private synchronized void invalidate(Predicate<CountKey> affected) {
+        generation.incrementAndGet();
+        int before = cache.size();
+        cache.keySet().removeIf(affected);
+        log.debug("일정 개수 캐시 무효화: {}건", before - cache.size());
+    }
+
+    public enum Mode {
+        TTL, WRITE_INVALIDATED
+    }
+
+    private record Entry(int count, long expiresAt) {
+    }
+
+    //userId가 null이면 공개 일정 개수, 아니면 해당 유저의 일정 개수
+    //값을 문자열로 이어 붙이면 구분자나 앞뒤 공백이 든 값끼리 키가 겹칠 수 있으므로, 조회에 쓰이는 값을 가공 없이 그대로 비교
+    private record CountKey(Long userId, String modifiedAt, String startModifiedAt, String endModifiedAt,
+                            String authorName, String q) {
+
+        boolean isPublic() {
+            return userId == null;
+        }
+
+        boolean isOwnedBy(Long ownerId) {
+            return userId != null && userId.equals(ownerId);
+        }
+    }
+}
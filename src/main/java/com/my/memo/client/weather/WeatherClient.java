@@ -1,33 +1,35 @@
 package com.my.memo.client.weather;
 
-import com.my.memo.client.weather.dto.DateWeatherDto;
-import com.my.memo.ex.CustomApiException;
-import com.my.memo.ex.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class WeatherClient {
 
-    private final WeatherFeignClient weatherFeignClient;
+    private static final String NO_WEATHER = "날씨 정보가 없네용 🥹";
+
+    private final WeatherSnapshot weatherSnapshot;
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
-    public String getTodayWeather(String today) {
-        try {
-            return weatherFeignClient.getDateWeatherInfo().stream()
-                    .filter(dateWeatherDto -> dateWeatherDto.getDate().equals(today))
-                    .map(DateWeatherDto::getWeather)
-                    .findFirst()
-                    .orElse("날씨 정보가 없네용 🥹");
-
-        } catch (Exception e) {
-            log.error("날씨 정보 조회 중 오류 발생: " + e.getMessage());
-            throw new CustomApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+    /**
+     * 백그라운드에서 갱신된 스냅샷에서 날짜(MM-dd)의 날씨를 조회합니다
+     * <p>
+     * 외부 API를 호출하지 않으며, 스냅샷을 아직 한 번도 받아오지 못한 경우에만 빈 값을 반환합니다
+     */
+    public Optional<String> findWeather(String date) {
+        if (weatherSnapshot.getRefreshedAt().isEmpty()) {
+            return Optional.empty();
         }
+        return Optional.of(weatherSnapshot.find(date).orElseGet(() -> {
+            log.debug("날씨 스냅샷에 {} 날씨 정보 없음", date);
+            return NO_WEATHER;
+        }));
     }
 
 }
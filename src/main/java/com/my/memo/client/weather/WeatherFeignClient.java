@@ -6,7 +6,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 
 import java.util.List;
 
-@FeignClient(name = "weatherFeignClient", url = "https://f-api.github.io/f-api/weather.json")
+//로컬 스텁 서버로 테스트할 수 있도록 weather.api.url 로 주소 변경 가능
+@FeignClient(name = "weatherFeignClient", url = "${weather.api.url:https://f-api.github.io/f-api/weather.json}")
 public interface WeatherFeignClient {
     @GetMapping
     List<DateWeatherDto> getDateWeatherInfo();
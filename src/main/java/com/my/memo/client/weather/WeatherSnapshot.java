@@ -0,0 +1,148 @@
+package com.my.memo.client.weather;
+
+import com.my.memo.client.weather.dto.DateWeatherDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 날짜(MM-dd)별 날씨 정보를 메모리에 보관하는 스냅샷입니다
+ * <p>
+ * 요청 처리 중에는 외부 API를 호출하지 않고 마지막으로 받아온 스냅샷에서 조회만 합니다 (stale-while-revalidate)
+ * 갱신은 백그라운드에서 주기적으로 수행하며, 실패하면 지터를 섞은 지수 백오프로 재시도하고 그동안은 이전 스냅샷을 그대로 사용합니다
+ * <p>
+ * 외부 호출은 "weather" 벌크헤드(동시 호출 수 제한)와 서킷 브레이커를 거치며, 서킷이 열려 있으면 호출 없이 실패 처리되어
+ * 마지막으로 받아온 스냅샷이 계속 사용됩니다 (설정: resilience4j.bulkhead/circuitbreaker.instances.weather)
+ */
+@Component
+@RequiredArgsConstructor
+public class WeatherSnapshot {
+
+    private static final String RESILIENCE_INSTANCE = "weather";
+
+    private final WeatherFeignClient weatherFeignClient;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TaskScheduler taskScheduler;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    //갱신 시 통째로 교체하므로 읽는 쪽은 락 없이 조회
+    private volatile Map<String, String> weatherByDate = Map.of();
+    private volatile Instant refreshedAt;
+    private int consecutiveFailures;
+    private Supplier<List<DateWeatherDto>> fetcher;
+
+    @Value("${weather.snapshot.refresh-interval:1h}")
+    private Duration refreshInterval;
+
+    @Value("${weather.snapshot.initial-backoff:5s}")
+    private Duration initialBackoff;
+
+    @Value("${weather.snapshot.max-backoff:10m}")
+    private Duration maxBackoff;
+
+    //여러 인스턴스가 동시에 외부 API를 호출하지 않도록 다음 갱신 시각에 섞는 비율
+    @Value("${weather.snapshot.jitter-ratio:0.1}")
+    private double jitterRatio;
+
+    @PostConstruct
+    public void init() {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(RESILIENCE_INSTANCE);
+        fetcher = CircuitBreaker.decorateSupplier(circuitBreaker,
+                Bulkhead.decorateSupplier(bulkhead, this::fetchWeather));
+    }
+
+    //서킷/벌크헤드에서 거절된 호출은 제외하고 실제 외부 API 호출 시간만 기록
+    private List<DateWeatherDto> fetchWeather() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            List<DateWeatherDto> dateWeatherList = weatherFeignClient.getDateWeatherInfo();
+            outcome = "success";
+            return dateWeatherList;
+        } finally {
+            sample.stop(Timer.builder("weather.api.requests")
+                    .description("날씨 API 호출 시간")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public Optional<String> find(String date) {
+        return Optional.ofNullable(weatherByDate.get(date));
+    }
+
+    public Optional<Instant> getRefreshedAt() {
+        return Optional.ofNullable(refreshedAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        taskScheduler.schedule(this::refresh, clock.instant());
+    }
+
+    void refresh() {
+        Duration nextDelay;
+        try {
+            List<DateWeatherDto> dateWeatherList = fetcher.get();
+            Map<String, String> snapshot = new HashMap<>();
+            for (DateWeatherDto dateWeatherDto : dateWeatherList) {
+                if (dateWeatherDto.getDate() != null && dateWeatherDto.getWeather() != null) {
+                    snapshot.putIfAbsent(dateWeatherDto.getDate(), dateWeatherDto.getWeather());
+                }
+            }
+            weatherByDate = Map.copyOf(snapshot);
+            refreshedAt = clock.instant();
+            consecutiveFailures = 0;
+            nextDelay = refreshInterval;
+            log.info("날씨 스냅샷 갱신 완료: {}건", snapshot.size());
+        } catch (Exception e) {
+            consecutiveFailures++;
+            nextDelay = backoff(consecutiveFailures);
+            log.warn("날씨 스냅샷 갱신 실패 ({}회 연속), {}초 후 재시도 (마지막 갱신 시각: {}): {}",
+                    consecutiveFailures, nextDelay.toSeconds(), refreshedAt, e.getMessage());
+        }
+        taskScheduler.schedule(this::refresh, clock.instant().plus(withJitter(nextDelay)));
+    }
+
+    private Duration backoff(int failures) {
+        long multiplier = 1L << Math.min(failures - 1, 20);
+        Duration delay = initialBackoff.multipliedBy(multiplier);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private Duration withJitter(Duration delay) {
+        long millis = delay.toMillis();
+        long jitter = (long) (millis * jitterRatio);
+        if (jitter <= 0) {
+            return delay;
+        }
+        return Duration.ofMillis(millis + ThreadLocalRandom.current().nextLong(-jitter, jitter + 1));
+    }
+}
@@ -5,11 +5,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.time.Clock;
 
 @Configuration
 @EnableJpaAuditing
+@EnableScheduling
 public class MemoConfig {
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
@@ -1,5 +1,6 @@
 package com.my.memo.config.auth;
 
+import com.my.memo.config.auth.jwt.AuthPrincipal;
 import com.my.memo.config.auth.jwt.JwtProvider;
 import com.my.memo.config.auth.jwt.JwtVo;
 import com.my.memo.config.auth.jwt.RequireAuth;
@@ -49,19 +50,19 @@ public class AuthInterceptor implements HandlerInterceptor {
         try {
             String jwt = jwtProvider.substringToken(token);
 
-            if (jwtProvider.validateToken(jwt)) { //검증 성공 시
-                Role userRole = Role.valueOf(jwtProvider.getUserRole(jwt));
-                Long userId = jwtProvider.getUserId(jwt);
+            //서명 검증과 클레임 추출을 한 번에 수행 (검증 실패 시 CustomJwtException)
+            AuthPrincipal principal = jwtProvider.verify(jwt);
+            Role userRole = principal.getRole();
+            Long userId = principal.getUserId();
 
-                if (requireAuth.role().equals(Role.ADMIN) && !userRole.equals(Role.ADMIN)) {
-                    setErrorResponse(response, HttpStatus.FORBIDDEN.value(), "관리자 권한이 필요합니다");
-                    return false;
-                }
-                request.setAttribute("userId", userId);
-                request.setAttribute("userRole", userRole);
-
-                log.info("유저 정보 설정: 유저 ID {}, 권한 {}", userId, userRole);
+            if (requireAuth.role().equals(Role.ADMIN) && !userRole.equals(Role.ADMIN)) {
+                setErrorResponse(response, HttpStatus.FORBIDDEN.value(), "관리자 권한이 필요합니다");
+                return false;
             }
+            request.setAttribute("userId", userId);
+            request.setAttribute("userRole", userRole);
+
+            log.info("유저 정보 설정: 유저 ID {}, 권한 {}", userId, userRole);
         } catch (CustomJwtException e) {
             setErrorResponse(response, e.getStatus(), e.getMsg());
             return false;
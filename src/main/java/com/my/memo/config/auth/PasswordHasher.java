@@ -0,0 +1,99 @@
+package com.my.memo.config.auth;
+
+import com.my.memo.ex.CustomApiException;
+import com.my.memo.ex.ErrorCode;
+import com.my.memo.util.CustomPasswordUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해싱/검증을 전용 스레드 풀에서 수행합니다
+ * <p>
+ * BCrypt는 의도적으로 CPU를 많이 쓰므로 로그인이 몰리면 요청 스레드가 모두 해싱에 묶여 다른 조회까지 느려집니다
+ * 동시 해싱 수를 스레드 풀 크기로, 대기 작업 수를 큐 크기로 제한하고 넘치는 요청은 즉시 503으로 거절합니다
+ */
+@Component
+public class PasswordHasher {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${password.bcrypt.cost:10}")
+    private int cost;
+
+    //0 이하이면 코어 수의 절반 (해싱이 몰려도 나머지 코어는 요청 처리에 남겨 둠)
+    @Value("${password.bcrypt.pool-size:0}")
+    private int poolSize;
+
+    @Value("${password.bcrypt.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${password.bcrypt.timeout:5s}")
+    private Duration timeout;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        if (poolSize <= 0) {
+            poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public String encode(String plainTextPassword) {
+        return submit(() -> CustomPasswordUtil.encode(plainTextPassword, cost));
+    }
+
+    public boolean matches(String plainTextPassword, String hashedPassword) {
+        return submit(() -> CustomPasswordUtil.matches(plainTextPassword, hashedPassword));
+    }
+
+    //설정된 cost보다 낮은 해시는 로그인 성공 시 재해싱 대상
+    public boolean needsRehash(String hashedPassword) {
+        return CustomPasswordUtil.getCost(hashedPassword) < cost;
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해싱 요청 거절: 대기 작업 {}건", executor.getQueue().size());
+            throw new CustomApiException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("비밀번호 해싱 시간 초과");
+            throw new CustomApiException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            log.error("비밀번호 해싱 중 오류 발생: ", e.getCause());
+            throw new CustomApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
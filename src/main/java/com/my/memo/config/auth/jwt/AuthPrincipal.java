@@ -0,0 +1,29 @@
+package com.my.memo.config.auth.jwt;
+
+import com.my.memo.domain.user.Role;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 토큰에서 꺼낸 인증 정보입니다
+ * <p>
+ * 불변 객체이므로 검증 결과 캐시에 그대로 보관하여 여러 요청에서 공유합니다
+ */
+@Getter
+public final class AuthPrincipal {
+
+    private final Long userId;
+    private final Role role;
+    private final Instant expiresAt;
+
+    public AuthPrincipal(Long userId, Role role, Instant expiresAt) {
+        this.userId = userId;
+        this.role = role;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpiredAt(long epochMillis) {
+        return expiresAt.toEpochMilli() <= epochMillis;
+    }
+}
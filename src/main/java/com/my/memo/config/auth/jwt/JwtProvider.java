@@ -1,5 +1,6 @@
 package com.my.memo.config.auth.jwt;
 
+import com.my.memo.domain.user.Role;
 import com.my.memo.domain.user.User;
 import com.my.memo.ex.CustomJwtException;
 import io.jsonwebtoken.*;
@@ -13,9 +14,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtProvider {
@@ -25,6 +31,14 @@ public class JwtProvider {
     @Value("${secret.key}")
     private String SECRET_KEY;
     private Key key;
+    //빌드된 파서는 불변이고 thread-safe 하므로 한 번만 생성해서 재사용
+    private JwtParser jwtParser;
+
+    //토큰 다이제스트 -> 검증된 인증 정보 (토큰 만료 시까지 보관)
+    private final Map<String, AuthPrincipal> verifiedCache = new ConcurrentHashMap<>();
+
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
 
     public String create(User user) {
         return JwtVo.TOKEN_PREFIX + Jwts.builder()
@@ -36,31 +50,84 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 인증 정보를 반환합니다
+     * <p>
+     * 이미 검증된 토큰은 만료 전까지 캐시에서 바로 반환합니다
+     *
+     * @param token Bearer 접두사를 제거한 JWT
+     * @return 유저 ID, 권한, 만료 시각을 담은 인증 정보
+     * @throws CustomJwtException 서명이 잘못되었거나 만료된 토큰인 경우
+     */
+    public AuthPrincipal verify(String token) throws CustomJwtException {
+        long now = System.currentTimeMillis();
+        String digest = digest(token);
+
+        AuthPrincipal cached = verifiedCache.get(digest);
+        if (cached != null) {
+            if (!cached.isExpiredAt(now)) {
+                return cached;
+            }
+            verifiedCache.remove(digest);
+        }
 
-    public String getUserRole(String token) {
-        Claims claims = getClaims(token);
-        return claims.get("role", String.class);
+        Claims claims = parseClaims(token);
+        AuthPrincipal principal = toPrincipal(claims);
+        cache(digest, principal, now);
+        return principal;
     }
 
-    public Long getUserId(String token) {
-        Claims claims = getClaims(token);
-        return claims.get("id", Long.class);
+    private Claims parseClaims(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token).getBody();
+        } catch (SecurityException | MalformedJwtException | SignatureException e) {
+            log.warn("Invalid JWT signature: 유효하지 않은 JWT 서명");
+            throw new CustomJwtException(HttpStatus.UNAUTHORIZED.value(), "유효하지 않은 토큰 서명 입니다");
+        } catch (ExpiredJwtException e) {
+            log.warn("Expired JWT token: 만료된 JWT 토큰");
+            throw new CustomJwtException(HttpStatus.UNAUTHORIZED.value(), "만료된 토큰입니다");
+        } catch (UnsupportedJwtException e) {
+            log.warn("Unsupported JWT token: 지원되지 않는 JWT 토큰");
+            throw new CustomJwtException(HttpStatus.BAD_REQUEST.value(), "지원되지 않는 토큰입니다");
+        } catch (IllegalArgumentException e) {
+            log.warn("JWT claims is empty: 잘못된 JWT 토큰");
+            throw new CustomJwtException(HttpStatus.BAD_REQUEST.value(), "잘못된 JWT 토큰입니다");
+        }
     }
 
-    private Claims getClaims(String token) {
+    private AuthPrincipal toPrincipal(Claims claims) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-        } catch (Exception e) {
+            Long userId = claims.get("id", Long.class);
+            Role role = Role.valueOf(claims.get("role", String.class));
+            if (userId == null || claims.getExpiration() == null) {
+                throw new IllegalArgumentException("필수 클레임 누락");
+            }
+            return new AuthPrincipal(userId, role, claims.getExpiration().toInstant());
+        } catch (RuntimeException e) {
             log.warn("유효하지 않은 토큰: ", e);
             throw new CustomJwtException(HttpStatus.UNAUTHORIZED.value(), "유효하지 않은 토큰입니다");
         }
     }
 
+    private void cache(String digest, AuthPrincipal principal, long now) {
+        if (verifiedCache.size() >= verifiedCacheMaxSize) {
+            verifiedCache.values().removeIf(p -> p.isExpiredAt(now));
+        }
+        if (verifiedCache.size() < verifiedCacheMaxSize) {
+            verifiedCache.put(digest, principal);
+        }
+    }
+
+    //원본 토큰을 키로 보관하지 않도록 SHA-256 다이제스트 사용
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 
     // 토큰 substring
     public String substringToken(String tokenValue) {
@@ -79,26 +146,7 @@ public class JwtProvider {
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(SECRET_KEY);
         key = Keys.hmacShaKeyFor(bytes);
-    }
-
-    // 토큰 검증
-    public boolean validateToken(String token) throws CustomJwtException {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException | SignatureException e) {
-            log.warn("Invalid JWT signature: 유효하지 않은 JWT 서명");
-            throw new CustomJwtException(HttpStatus.UNAUTHORIZED.value(), "유효하지 않은 토큰 서명 입니다");
-        } catch (ExpiredJwtException e) {
-            log.warn("Expired JWT token: 만료된 JWT 토큰");
-            throw new CustomJwtException(HttpStatus.UNAUTHORIZED.value(), "만료된 토큰입니다");
-        } catch (UnsupportedJwtException e) {
-            log.warn("Unsupported JWT token: 지원되지 않는 JWT 토큰");
-            throw new CustomJwtException(HttpStatus.BAD_REQUEST.value(), "지원되지 않는 토큰입니다");
-        } catch (IllegalArgumentException e) {
-            log.warn("JWT claims is empty: 잘못된 JWT 토큰");
-            throw new CustomJwtException(HttpStatus.BAD_REQUEST.value(), "잘못된 JWT 토큰입니다");
-        }
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
 
@@ -9,6 +9,7 @@ import com.my.memo.dto.comment.resp.CommentCreateRespDto;
 import com.my.memo.dto.comment.resp.CommentDeleteRespDto;
 import com.my.memo.dto.comment.resp.CommentModifyRespDto;
 import com.my.memo.dto.schedule.req.PublicScheduleFilter;
+import com.my.memo.dto.schedule.req.ScheduleExportFormat;
 import com.my.memo.dto.schedule.req.ScheduleCreateReqDto;
 import com.my.memo.dto.schedule.req.ScheduleModifyReqDto;
 import com.my.memo.dto.schedule.req.UserScheduleFilter;
@@ -18,16 +19,24 @@ import com.my.memo.dto.scheduleUser.req.UserAssignReqDto;
 import com.my.memo.dto.scheduleUser.resp.AssignedUserDeleteRespDto;
 import com.my.memo.dto.scheduleUser.resp.UserAssignRespDto;
 import com.my.memo.service.CommentService;
+import com.my.memo.service.ScheduleExportService;
+import com.my.memo.service.ScheduleImportService;
 import com.my.memo.service.ScheduleService;
 import com.my.memo.service.ScheduleUserService;
 import com.my.memo.util.api.ApiResult;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
 
 @RequiredArgsConstructor
 @RestController
@@ -38,6 +47,8 @@ public class ScheduleController {
     private final ScheduleService scheduleService;
     private final ScheduleUserService scheduleUserService;
     private final CommentService commentService;
+    private final ScheduleImportService scheduleImportService;
+    private final ScheduleExportService scheduleExportService;
 
     @RequireAuth(role = Role.USER)
     @DeleteMapping("/schedules/{scheduleId}/users")
@@ -113,6 +124,26 @@ public class ScheduleController {
     }
 
 
+    //내 일정을 댓글/배정 유저와 함께 NDJSON 또는 CSV로 스트리밍 (Accept-Encoding이 gzip을 허용하면 압축)
+    @RequireAuth(role = Role.USER)
+    @GetMapping("/schedules/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUserSchedules(@RequestParam(name = "format", defaultValue = "ndjson") String format,
+                                                                     @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                                     @UserId Long userId) {
+        ScheduleExportFormat exportFormat = ScheduleExportFormat.from(format);
+        boolean gzip = ScheduleExportService.acceptsGzip(acceptEncoding);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"schedules." + exportFormat.getExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(scheduleExportService.exportUserSchedules(userId, exportFormat, gzip));
+    }
+
+
     @RequireAuth(role = Role.USER)
     @GetMapping("/schedules/{scheduleId}")
     public ResponseEntity<ApiResult<ScheduleRespDto>> findScheduleById(@PathVariable(name = "scheduleId") Long scheduleId,
@@ -123,6 +154,18 @@ public class ScheduleController {
     }
 
 
+    //JSON 배열 또는 NDJSON 본문을 스트리밍으로 읽어 저장하고, 항목별 결과를 NDJSON으로 스트리밍
+    @RequireAuth(role = Role.USER)
+    @PostMapping(value = "/schedules/import",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importSchedules(HttpServletRequest request, @UserId Long userId) throws IOException {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(scheduleImportService.importSchedules(request.getInputStream(), userId));
+    }
+
+
     @RequireAuth(role = Role.USER)
     @PostMapping("/schedules")
     public ResponseEntity<ApiResult<ScheduleCreateRespDto>> createSchedule(@RequestBody @Valid ScheduleCreateReqDto scheduleCreateReqDto,
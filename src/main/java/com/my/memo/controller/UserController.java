@@ -32,6 +32,13 @@ public class UserController {
     }
 
 
+    @RequireAuth(role = Role.ADMIN)
+    @GetMapping("/admin/users/{userId}/deletion")
+    public ResponseEntity<ApiResult<AccountDeletionRespDto>> getAccountDeletion(@PathVariable(name = "userId") Long userId) {
+        return new ResponseEntity<>(ApiResult.success(userService.getAccountDeletion(userId)), HttpStatus.OK);
+    }
+
+
     @RequireAuth(role = Role.USER)
     @GetMapping("/users")
     public ResponseEntity<ApiResult<UserRespDto>> getUserInfo(@UserId Long userId) {
@@ -0,0 +1,121 @@
+package com.my.memo.domain.accountDeletion;
+
+import com.my.memo.domain.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계정 삭제 작업의 진행 상태(체크포인트)입니다
+ * <p>
+ * 유저 데이터는 단계별로 나누어 삭제하며, 각 청크의 삭제와 진행 상태 갱신을 같은 트랜잭션에서 커밋하므로
+ * 중간에 서버가 종료되어도 마지막으로 커밋된 지점부터 이어서 처리합니다
+ * 여러 인스턴스가 같은 작업을 동시에 처리하지 않도록 낙관적 락(version)을 사용합니다
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "account_deletion_jobs")
+public class AccountDeletionJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    private Phase phase;
+
+    //SCHEDULES 단계에서 마지막으로 삭제한 일정 ID
+    private Long lastScheduleId = 0L;
+
+    private Long deletedAssignments = 0L;
+    private Long deletedComments = 0L;
+    private Long deletedSchedules = 0L;
+
+    private int attempts;
+
+    //남은 데이터 때문에 처음 단계부터 다시 처리한 횟수
+    private int restarts;
+
+    @Column(length = 512)
+    private String lastError;
+
+    @Version
+    private Long version;
+
+    public AccountDeletionJob(Long userId) {
+        this.userId = userId;
+        this.status = Status.PENDING;
+        this.phase = Phase.ASSIGNMENTS;
+    }
+
+    public void start() {
+        if (this.status == Status.PENDING) {
+            this.status = Status.RUNNING;
+        }
+    }
+
+    public void addDeletedAssignments(long count) {
+        this.deletedAssignments += count;
+    }
+
+    public void addDeletedComments(long count) {
+        this.deletedComments += count;
+    }
+
+    public void addDeletedSchedules(long count, Long lastScheduleId) {
+        this.deletedSchedules += count;
+        this.lastScheduleId = lastScheduleId;
+    }
+
+    public void moveTo(Phase phase) {
+        this.phase = phase;
+        if (phase == Phase.DONE) {
+            this.status = Status.COMPLETED;
+        }
+    }
+
+    /**
+     * 처음 단계부터 다시 처리합니다
+     * <p>
+     * 일정 ID는 인스턴스마다 미리 할당받은 범위에서 나오므로 체크포인트보다 작은 ID의 일정이 늦게 생길 수 있어 체크포인트도 초기화합니다
+     * 재시작이 maxRestarts를 넘으면 계속 데이터가 추가되는 것으로 보고 실패 처리합니다
+     */
+    public void restart(int maxRestarts) {
+        this.restarts++;
+        this.phase = Phase.ASSIGNMENTS;
+        this.lastScheduleId = 0L;
+        if (this.restarts > maxRestarts) {
+            this.status = Status.FAILED;
+            this.lastError = "삭제 중 데이터가 계속 추가되어 재시작 횟수 초과";
+        }
+    }
+
+    public void recordFailure(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 512 ? error.substring(0, 512) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+        }
+    }
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    /*
+     * ASSIGNMENTS: 유저가 다른 일정에 배정된 기록 (해당 일정 배정 인원 수 차감)
+     * COMMENTS: 유저가 작성한 댓글 (해당 일정 댓글 수 차감)
+     * SCHEDULES: 유저의 일정과 그 일정에 달린 댓글/배정 기록
+     * USER: 유저 행
+     * */
+    public enum Phase {
+        ASSIGNMENTS, COMMENTS, SCHEDULES, USER, DONE
+    }
+}
@@ -0,0 +1,20 @@
+package com.my.memo.domain.accountDeletion;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AccountDeletionJobRepository extends JpaRepository<AccountDeletionJob, Long> {
+
+    Optional<AccountDeletionJob> findByUserId(Long userId);
+
+    @Query("select j.id from AccountDeletionJob j where j.status in :statuses order by j.id")
+    List<Long> findIdsByStatusIn(@Param(value = "statuses") Collection<AccountDeletionJob.Status> statuses, Pageable pageable);
+}
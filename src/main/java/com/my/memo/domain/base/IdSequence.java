@@ -0,0 +1,19 @@
+package com.my.memo.domain.base;
+
+/**
+ * 테이블 기반 ID 할당기(@TableGenerator) 설정 값입니다
+ * <p>
+ * IDENTITY 전략은 insert 후에야 ID를 알 수 있어 하이버네이트가 insert를 JDBC 배치로 묶지 못하므로,
+ * id_sequences 테이블에서 ALLOCATION_SIZE 만큼의 ID 범위를 한 번에 받아와(pooled) 메모리에서 할당합니다
+ * MySQL/H2 모두에서 동일하게 동작하며, 새 범위를 받아올 때만 id_sequences 행을 갱신합니다
+ */
+public final class IdSequence {
+
+    public static final String TABLE = "id_sequences";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequence() {
+    }
+}
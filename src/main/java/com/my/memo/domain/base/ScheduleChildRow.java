@@ -0,0 +1,13 @@
+package com.my.memo.domain.base;
+
+/**
+ * 일정에 속한 행(댓글, 배정 기록)의 ID와 일정 ID만 조회하는 프로젝션입니다
+ * <p>
+ * 행을 나누어 삭제하면서 일정의 집계 컬럼을 함께 차감할 때 사용합니다
+ */
+public interface ScheduleChildRow {
+
+    Long getId();
+
+    Long getScheduleId();
+}
@@ -1,6 +1,7 @@
 package com.my.memo.domain.comment;
 
 import com.my.memo.domain.base.BaseEntity;
+import com.my.memo.domain.base.IdSequence;
 import com.my.memo.domain.schedule.Schedule;
 import com.my.memo.domain.user.User;
 import com.my.memo.dto.comment.req.CommentModifyReqDto;
@@ -20,7 +21,9 @@ import lombok.NoArgsConstructor;
 public class Comment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+    @TableGenerator(name = "comment_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "comments", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @Column(length = 512)
@@ -54,7 +57,12 @@ public class Comment extends BaseEntity {
     }
 
     public void validateBelongsTo(Schedule schedule) {
-        if (!this.schedule.getId().equals(schedule.getId())) {
+        validateBelongsTo(schedule.getId());
+    }
+
+    //프록시의 id만 사용하므로 일정을 조회하지 않음
+    public void validateBelongsTo(Long scheduleId) {
+        if (!this.schedule.getId().equals(scheduleId)) {
             throw new CustomApiException(ErrorCode.COMMENT_NOT_IN_SCHEDULE);
         }
     }
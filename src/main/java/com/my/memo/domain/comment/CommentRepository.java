@@ -1,9 +1,14 @@
 package com.my.memo.domain.comment;
 
+import com.my.memo.domain.base.ScheduleChildRow;
+import com.my.memo.domain.comment.dto.CommentExportRow;
 import com.my.memo.domain.schedule.Schedule;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,13 +22,34 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("select c from Comment c left join fetch c.user u where c.schedule = :schedule")
     Page<Comment> findCommentsWithUserBySchedule(Schedule schedule, PageRequest pageRequest);
 
+    //계정 삭제 작업용: 유저가 작성한 댓글을 id 순으로 나누어 조회
+    //삭제할 때까지 행을 잠가 동시 요청이 먼저 삭제하지 못하도록 함 (집계 컬럼 이중 차감 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.id as id, c.schedule.id as scheduleId from Comment c where c.user.id = :userId order by c.id")
+    List<ScheduleChildRow> findRowsByUserId(@Param(value = "userId") Long userId, Pageable pageable);
+
+    @Query("select c.id from Comment c where c.schedule.id in :scheduleIds order by c.id")
+    List<Long> findIdsByScheduleIds(@Param(value = "scheduleIds") List<Long> scheduleIds, Pageable pageable);
+
+    boolean existsByUserId(Long userId);
+
+    //일정 내보내기용: 여러 일정의 댓글을 한 번에 조회
+    @Query("select c.schedule.id as scheduleId, c.id as id, c.content as content, u.id as authorId, u.name as authorName, c.createdAt as createdAt " +
+            "from Comment c left join c.user u where c.schedule.id in :scheduleIds order by c.schedule.id, c.id")
+    List<CommentExportRow> findExportRowsByScheduleIds(@Param(value = "scheduleIds") List<Long> scheduleIds);
+
     @Modifying
-    @Query("delete from Comment c where c.user.id = :userId")
-    int deleteByUserId(@Param(value = "userId") Long userId);
+    @Query("delete from Comment c where c.id in :commentIds")
+    int deleteByIds(@Param(value = "commentIds") List<Long> commentIds);
+
+    //영속성 컨텍스트를 거치지 않는 단건 삭제 (일정의 댓글 컬렉션을 로딩하지 않음)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Comment c where c.id = :commentId")
+    int deleteCommentById(@Param(value = "commentId") Long commentId);
 
     @Modifying
-    @Query("delete from Comment c where c.schedule in :scheduleList")
-    int deleteBySchedules(@Param(value = "scheduleList") List<Schedule> scheduleList);
+    @Query("delete from Comment c where c.schedule.id = :scheduleId")
+    int deleteByScheduleId(@Param(value = "scheduleId") Long scheduleId);
 
 
 }
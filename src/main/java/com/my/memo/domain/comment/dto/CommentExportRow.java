@@ -0,0 +1,21 @@
+package com.my.memo.domain.comment.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 내보내기 시 일정별 댓글을 묶어서 조회하는 프로젝션입니다
+ */
+public interface CommentExportRow {
+
+    Long getScheduleId();
+
+    Long getId();
+
+    String getContent();
+
+    Long getAuthorId();
+
+    String getAuthorName();
+
+    LocalDateTime getCreatedAt();
+}
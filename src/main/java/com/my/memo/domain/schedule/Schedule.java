@@ -1,6 +1,7 @@
 package com.my.memo.domain.schedule;
 
 import com.my.memo.domain.base.BaseEntity;
+import com.my.memo.domain.base.IdSequence;
 import com.my.memo.domain.comment.Comment;
 import com.my.memo.domain.user.User;
 import com.my.memo.dto.schedule.req.ScheduleModifyReqDto;
@@ -11,6 +12,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -19,16 +21,24 @@ import java.util.List;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@DynamicUpdate
 @Table(name = "schedules")
 public class Schedule extends BaseEntity {
 
+    //생성 직후 날씨 정보가 비동기로 채워지기 전까지 저장되는 값
+    public static final String WEATHER_PENDING = "날씨 정보 조회 중";
+    //일정에 배정 가능한 최대 유저 수
+    public static final int MAX_ASSIGNED_USERS = 5;
+
     /*
      * 해당 부분은 JPA 스펙상 원칙적으로 CascadeType.PERSIST이 없어도 orphanRemoval만으로 삭제되어야 하는 것이 맞습니다.
      * 하이버네이트 구현체에서는 해당 기능에 버그가 있고, 그래서 CascadeType.PERSIST(또는 ALL)이 함께 적용되어야 orphanRemoval이 동작합니다.
      * */
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_id_generator")
+    @TableGenerator(name = "schedule_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "schedules", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
     @Column(length = 512)
     private String content;
@@ -40,6 +50,10 @@ public class Schedule extends BaseEntity {
     private User user;
     private String weatherOnCreation;
 
+    //목록 조회 시 join 없이 사용하기 위한 집계 컬럼 (벌크 update 쿼리로만 증감)
+    private Long commentCnt = 0L;
+    private Long assignedUserCnt = 0L;
+
     @OneToMany(mappedBy = "schedule", cascade = CascadeType.REMOVE)
     private List<Comment> commentList = new ArrayList<>();
 
@@ -1,27 +1,109 @@
 package com.my.memo.domain.schedule;
 
+import com.my.memo.domain.schedule.dto.PendingWeatherSchedule;
+import com.my.memo.domain.schedule.dto.ScheduleSearchDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long>, Dao {
 
-    @Query("select distinct s from Schedule s left join fetch s.commentList c where s.id = :scheduleId")
-    Optional<Schedule> findScheduleWithCommentsById(@Param(value = "scheduleId") Long scheduleId);
+    //em.remove는 댓글 컬렉션의 cascade REMOVE 때문에 댓글을 모두 로딩하므로 벌크 delete 사용
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Schedule s where s.id = :scheduleId")
+    int deleteScheduleById(@Param(value = "scheduleId") Long scheduleId);
 
-    @Query("select count(s) from Schedule s where s.isPublic = true")
-    int countPublicSchedules();
+    //계정 삭제 작업용: 유저의 일정 ID를 id 순으로 나누어 조회
+    @Query("select s.id from Schedule s where s.user.id = :userId and s.id > :afterId order by s.id")
+    List<Long> findIdsByUserId(@Param(value = "userId") Long userId, @Param(value = "afterId") Long afterId, Pageable pageable);
 
-    @Query("select count(s) from Schedule s where s.user.id = :userId")
-    int countUserSchedules(@Param(value = "userId") Long userId);
+    boolean existsByUserId(Long userId);
 
-    @Modifying(clearAutomatically = true)
-    @Query("delete from Schedule s where s.user.id = :userId")
-    int deleteByUserId(@Param(value = "userId") Long userId);
+    @Modifying
+    @Query("delete from Schedule s where s.id in :scheduleIds")
+    int deleteByIds(@Param(value = "scheduleIds") List<Long> scheduleIds);
+
+    @Modifying
+    @Query("update Schedule s set s.commentCnt = s.commentCnt + :delta where s.id = :scheduleId")
+    int addCommentCnt(@Param(value = "scheduleId") Long scheduleId, @Param(value = "delta") long delta);
+
+    @Modifying
+    @Query("update Schedule s set s.assignedUserCnt = s.assignedUserCnt + :delta where s.id = :scheduleId")
+    int addAssignedUserCnt(@Param(value = "scheduleId") Long scheduleId, @Param(value = "delta") long delta);
+
+    //최대 인원을 넘지 않는 경우에만 배정 인원 수를 증가 (행 락으로 동시 배정 요청이 직렬화되어 한도를 넘지 않음)
+    @Modifying
+    @Query("update Schedule s set s.assignedUserCnt = s.assignedUserCnt + :count " +
+            "where s.id = :scheduleId and s.assignedUserCnt + :count <= :limit")
+    int reserveAssignedUserSlots(@Param(value = "scheduleId") Long scheduleId, @Param(value = "count") long count, @Param(value = "limit") long limit);
+
+    //같은 개수만큼 차감할 일정들을 한 번에 갱신
+    @Modifying
+    @Query("update Schedule s set s.commentCnt = s.commentCnt - :delta where s.id in :scheduleIds")
+    int subtractCommentCnt(@Param(value = "scheduleIds") List<Long> scheduleIds, @Param(value = "delta") long delta);
+
+    @Modifying
+    @Query("update Schedule s set s.assignedUserCnt = s.assignedUserCnt - :delta where s.id in :scheduleIds")
+    int subtractAssignedUserCnt(@Param(value = "scheduleIds") List<Long> scheduleIds, @Param(value = "delta") long delta);
+
+    @Query("select max(s.id) from Schedule s")
+    Long findMaxId();
+
+    //id 범위 내에서 실제 댓글/배정 인원 수와 어긋난 집계 컬럼 보정
+    @Transactional
+    @Modifying
+    @Query("update Schedule s set " +
+            "s.commentCnt = (select count(c) from Comment c where c.schedule = s), " +
+            "s.assignedUserCnt = (select count(su) from ScheduleUser su where su.schedule = s) " +
+            "where s.id between :fromId and :toId " +
+            "and (s.commentCnt <> (select count(c) from Comment c where c.schedule = s) " +
+            "or s.assignedUserCnt <> (select count(su) from ScheduleUser su where su.schedule = s))")
+    int reconcileCounts(@Param(value = "fromId") Long fromId, @Param(value = "toId") Long toId);
+
+    //날씨 정보가 아직 채워지지 않은 일정에만 반영 (벌크 update이므로 lastModifiedAt은 갱신되지 않음)
+    @Transactional
+    @Modifying
+    @Query("update Schedule s set s.weatherOnCreation = :weather " +
+            "where s.id in :scheduleIds and s.weatherOnCreation = '" + Schedule.WEATHER_PENDING + "'")
+    int fillPendingWeather(@Param(value = "scheduleIds") List<Long> scheduleIds, @Param(value = "weather") String weather);
+
+    //데드레터로 분리되지 않은 날씨 대기 일정 조회 (큐 유실 대비 재적재용)
+    @Query("select s.id as id, s.createdAt as createdAt from Schedule s " +
+            "where s.weatherOnCreation = '" + Schedule.WEATHER_PENDING + "' and s.createdAt < :createdBefore " +
+            "and not exists (select d.id from WeatherEnrichmentDeadLetter d where d.scheduleId = s.id) " +
+            "order by s.id")
+    List<PendingWeatherSchedule> findPendingWeatherSchedules(@Param(value = "createdBefore") LocalDateTime createdBefore, Pageable pageable);
+
+    //검색 색인 초기 구성용 (id 순으로 나누어 조회)
+    @Query("select s.id as id, s.content as content, s.user.id as userId from Schedule s " +
+            "where s.isPublic = true and s.id > :afterId order by s.id")
+    List<ScheduleSearchDocument> findPublicSearchDocuments(@Param(value = "afterId") Long afterId, Pageable pageable);
+
+    @Query("select s.id as id, s.content as content, s.user.id as userId from Schedule s " +
+            "where s.id = :scheduleId and s.isPublic = true")
+    Optional<ScheduleSearchDocument> findPublicSearchDocumentById(@Param(value = "scheduleId") Long scheduleId);
+
+    @Query("select s.id as id, s.content as content, s.user.id as userId from Schedule s " +
+            "where s.id in :scheduleIds and s.isPublic = true")
+    List<ScheduleSearchDocument> findPublicSearchDocumentsByIds(@Param(value = "scheduleIds") List<Long> scheduleIds);
+
+    //다른 인스턴스에서 변경된 일정을 색인에 반영하기 위한 조회 (is_public, last_modified_at 인덱스 사용)
+    @Query("select s.id as id, s.content as content, s.user.id as userId from Schedule s " +
+            "where s.isPublic = true and s.lastModifiedAt >= :since and s.id > :afterId order by s.id")
+    List<ScheduleSearchDocument> findPublicSearchDocumentsModifiedSince(@Param(value = "since") LocalDateTime since,
+                                                                       @Param(value = "afterId") Long afterId, Pageable pageable);
+
+    @Query("select s.id from Schedule s where s.isPublic = false and s.lastModifiedAt >= :since and s.id > :afterId order by s.id")
+    List<Long> findPrivateScheduleIdsModifiedSince(@Param(value = "since") LocalDateTime since,
+                                                   @Param(value = "afterId") Long afterId, Pageable pageable);
 
 }
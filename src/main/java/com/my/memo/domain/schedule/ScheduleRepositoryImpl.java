@@ -1,13 +1,19 @@
 package com.my.memo.domain.schedule;
 
 
+import com.my.memo.domain.schedule.dto.ScheduleCursor;
+import com.my.memo.domain.schedule.dto.ScheduleExportRow;
 import com.my.memo.domain.schedule.dto.ScheduleWithCommentAndUserCountsDto;
 import com.my.memo.domain.user.User;
 import com.my.memo.dto.schedule.req.PublicScheduleFilter;
 import com.my.memo.dto.schedule.req.UserScheduleFilter;
+import com.my.memo.search.ScheduleSearchCandidates;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,14 +22,25 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 interface Dao {
-    List<ScheduleWithCommentAndUserCountsDto> findPublicSchedulesWithFilters(PublicScheduleFilter publicScheduleFilter);
+    List<ScheduleWithCommentAndUserCountsDto> findPublicSchedulesWithFilters(PublicScheduleFilter publicScheduleFilter, ScheduleSearchCandidates candidates);
 
     List<ScheduleWithCommentAndUserCountsDto> findUserSchedulesWithFilters(User user, UserScheduleFilter userScheduleFilter);
 
+    int countPublicSchedulesWithFilters(PublicScheduleFilter publicScheduleFilter, ScheduleSearchCandidates candidates);
+
+    int countUserSchedulesWithFilters(User user, UserScheduleFilter userScheduleFilter);
+
+    ScrollableResults<ScheduleExportRow> scrollUserSchedulesForExport(Long userId, int fetchSize);
+
 }
 
 @RequiredArgsConstructor
 public class ScheduleRepositoryImpl implements Dao {
+
+    // (s.lastModifiedAt, s.id) < (:cursorModifiedAt, :cursorId) 를 풀어 쓴 조건
+    private static final String CURSOR_CONDITION =
+            "and (s.lastModifiedAt < :cursorModifiedAt or (s.lastModifiedAt = :cursorModifiedAt and s.id < :cursorId)) ";
+
     private final EntityManager em;
     private final Clock clock;
     private final Logger log = LoggerFactory.getLogger(this.getClass());
@@ -33,123 +50,204 @@ public class ScheduleRepositoryImpl implements Dao {
     public List<ScheduleWithCommentAndUserCountsDto> findUserSchedulesWithFilters(User user, UserScheduleFilter filter) {
 
         String jpql =
-                "select new com.my.memo.domain.schedule.dto.ScheduleWithCommentAndUserCountsDto(s, count(distinct c.id) as commentCnt, count(distinct su.id) as assignedUserCnt) " +
+                "select new com.my.memo.domain.schedule.dto.ScheduleWithCommentAndUserCountsDto(" +
+                        "s.id, s.content, s.isPublic, s.createdAt, s.lastModifiedAt, s.commentCnt, s.assignedUserCnt) " +
                         "from Schedule s " +
-                        "left join Comment c on s.id = c.schedule.id " +
-                        "left join ScheduleUser su on s.id = su.schedule.id " +
                         "where s.user = :user ";
 
         StringBuilder sql = new StringBuilder(jpql);
 
-        LocalDateTime modifiedTime = null;
-
-        //modifiedTime 계산
-        if (filter.getModifiedAt() != null && !filter.getModifiedAt().isEmpty()) {
-            modifiedTime = calculateModifiedTime(filter.getModifiedAt());
+        LocalDateTime modifiedTime = appendModifiedAtCondition(sql, filter.getModifiedAt(), filter.getStartModifiedAt(), filter.getEndModifiedAt());
 
-            if (modifiedTime != null) {
-                sql.append("and s.lastModifiedAt >= :modifiedTime ");
-            }
-        }
-        //startModifiedAt, endModifiedAt 필터링
-        else if (filter.getStartModifiedAt() != null && filter.getEndModifiedAt() != null) {
-            sql.append("and s.lastModifiedAt between :startModifiedAt and :endModifiedAt ");
-        } else if (filter.getStartModifiedAt() != null) {
-            sql.append("and s.lastModifiedAt >= :startModifiedAt ");
-        } else if (filter.getEndModifiedAt() != null) {
-            sql.append("and s.lastModifiedAt <= :endModifiedAt ");
+        //커서 이후의 일정만 조회 (키셋 페이지네이션)
+        ScheduleCursor cursor = filter.getCursor() != null ? ScheduleCursor.decode(filter.getCursor()) : null;
+        if (cursor != null) {
+            sql.append(CURSOR_CONDITION);
         }
 
-        //수정일 기준 내림차순 정렬
-        sql.append("group by s ");
-        sql.append("order by s.lastModifiedAt desc");
+        //수정일 기준 내림차순 정렬 (같은 수정일은 id 내림차순)
+        sql.append("order by s.lastModifiedAt desc, s.id desc");
 
         TypedQuery<ScheduleWithCommentAndUserCountsDto> query = em.createQuery(sql.toString(), ScheduleWithCommentAndUserCountsDto.class);
         query.setParameter("user", user);
 
-        if (modifiedTime != null) {
-            query.setParameter("modifiedTime", modifiedTime);
-        }
+        setModifiedAtParameters(query, modifiedTime, filter.getStartModifiedAt(), filter.getEndModifiedAt());
+
+        setPageParameters(query, cursor, filter.getPage(), filter.getLimit());
 
-        if (filter.getStartModifiedAt() != null && filter.getEndModifiedAt() != null) {
-            query.setParameter("startModifiedAt", filter.getStartModifiedAt() + " 00:00:00");
-            query.setParameter("endModifiedAt", filter.getEndModifiedAt() + " 23:59:59");
-        } else if (filter.getStartModifiedAt() != null) {
-            query.setParameter("startModifiedAt", filter.getStartModifiedAt() + " 00:00:00");
-        } else if (filter.getEndModifiedAt() != null) {
-            query.setParameter("endModifiedAt", filter.getEndModifiedAt() + " 23:59:59");
+        return query.getResultList();
+    }
+
+    @Override
+    public List<ScheduleWithCommentAndUserCountsDto> findPublicSchedulesWithFilters(PublicScheduleFilter filter, ScheduleSearchCandidates candidates) {
+
+        String jpql =
+                "select new com.my.memo.domain.schedule.dto.ScheduleWithCommentAndUserCountsDto(" +
+                        "s.id, u.name, s.content, s.isPublic, s.createdAt, s.lastModifiedAt, s.commentCnt, s.assignedUserCnt) " +
+                        "from Schedule s " +
+                        "join s.user u " +
+                        "where s.isPublic = true and u.deleted = false ";
+
+        StringBuilder sql = new StringBuilder(jpql);
+
+        LocalDateTime modifiedTime = appendModifiedAtCondition(sql, filter.getModifiedAt(), filter.getStartModifiedAt(), filter.getEndModifiedAt());
+
+        //작성자/내용 검색 필터링
+        appendSearchCondition(sql, filter, candidates);
+
+        //커서 이후의 일정만 조회 (키셋 페이지네이션)
+        ScheduleCursor cursor = filter.getCursor() != null ? ScheduleCursor.decode(filter.getCursor()) : null;
+        if (cursor != null) {
+            sql.append(CURSOR_CONDITION);
         }
 
-        query.setFirstResult((int) (filter.getPage() * filter.getLimit()));
-        query.setMaxResults((int) (filter.getLimit() + 1));
+        //수정일 기준 내림차순 정렬 (같은 수정일은 id 내림차순)
+        sql.append("order by s.lastModifiedAt desc, s.id desc");
+
+        TypedQuery<ScheduleWithCommentAndUserCountsDto> query = em.createQuery(sql.toString(), ScheduleWithCommentAndUserCountsDto.class);
+
+        setModifiedAtParameters(query, modifiedTime, filter.getStartModifiedAt(), filter.getEndModifiedAt());
+
+        setSearchParameters(query, filter, candidates);
+
+        setPageParameters(query, cursor, filter.getPage(), filter.getLimit());
 
         return query.getResultList();
     }
 
     @Override
-    public List<ScheduleWithCommentAndUserCountsDto> findPublicSchedulesWithFilters(PublicScheduleFilter filter) {
+    public int countUserSchedulesWithFilters(User user, UserScheduleFilter filter) {
+
+        StringBuilder sql = new StringBuilder("select count(s) from Schedule s where s.user = :user ");
+        LocalDateTime modifiedTime = appendModifiedAtCondition(sql, filter.getModifiedAt(), filter.getStartModifiedAt(), filter.getEndModifiedAt());
+
+        TypedQuery<Long> query = em.createQuery(sql.toString(), Long.class);
+        query.setParameter("user", user);
+        setModifiedAtParameters(query, modifiedTime, filter.getStartModifiedAt(), filter.getEndModifiedAt());
+
+        return query.getSingleResult().intValue();
+    }
 
+    /*
+     * 유저의 모든 일정을 id 순으로 한 행씩 읽는 전방향 스크롤 조회
+     * 결과 전체를 메모리에 올리지 않도록 fetchSize 단위로 가져오며, 호출자가 트랜잭션 안에서 사용 후 닫아야 함
+     * (MySQL은 커넥션 URL에 useCursorFetch=true 가 있어야 fetchSize 단위로 서버 커서를 사용)
+     * */
+    @Override
+    public ScrollableResults<ScheduleExportRow> scrollUserSchedulesForExport(Long userId, int fetchSize) {
         String jpql =
-                "select new com.my.memo.domain.schedule.dto.ScheduleWithCommentAndUserCountsDto(s, count(distinct c.id) as commentCnt, count(distinct su.id) as assignedUserCnt) " +
+                "select new com.my.memo.domain.schedule.dto.ScheduleExportRow(" +
+                        "s.id, s.content, s.startAt, s.endAt, s.isPublic, s.weatherOnCreation, s.createdAt, s.lastModifiedAt) " +
                         "from Schedule s " +
-                        "left join Comment c on s.id = c.schedule.id " +
-                        "left join ScheduleUser su on s.id = su.schedule.id " +
-                        "left join fetch s.user u " +
-                        "where s.isPublic = true ";
+                        "where s.user.id = :userId " +
+                        "order by s.id";
+
+        return em.unwrap(Session.class)
+                .createQuery(jpql, ScheduleExportRow.class)
+                .setParameter("userId", userId)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY);
+    }
 
-        StringBuilder sql = new StringBuilder(jpql);
+    @Override
+    public int countPublicSchedulesWithFilters(PublicScheduleFilter filter, ScheduleSearchCandidates candidates) {
+
+        //탈퇴 처리 중인 유저의 일정은 목록과 같게 개수에서도 제외
+        StringBuilder sql = new StringBuilder("select count(s) from Schedule s join s.user u ");
+        sql.append("where s.isPublic = true and u.deleted = false ");
+        LocalDateTime modifiedTime = appendModifiedAtCondition(sql, filter.getModifiedAt(), filter.getStartModifiedAt(), filter.getEndModifiedAt());
+        appendSearchCondition(sql, filter, candidates);
+
+        TypedQuery<Long> query = em.createQuery(sql.toString(), Long.class);
+        setModifiedAtParameters(query, modifiedTime, filter.getStartModifiedAt(), filter.getEndModifiedAt());
+        setSearchParameters(query, filter, candidates);
+
+        return query.getSingleResult().intValue();
+    }
+
+    //검색 색인 후보가 있으면 ID 조건으로 먼저 좁히고, 후보는 상위 집합이므로 LIKE 조건으로 한 번 더 확인
+    private void appendSearchCondition(StringBuilder sql, PublicScheduleFilter filter, ScheduleSearchCandidates candidates) {
+        if (hasText(filter.getAuthorName())) {
+            if (candidates.getAuthorIds() != null) {
+                sql.append("and u.id in :authorIds ");
+            }
+            sql.append("and u.name like :authorName ");
+        }
+        if (hasText(filter.getQ())) {
+            if (candidates.getScheduleIds() != null) {
+                sql.append("and s.id in :scheduleIds ");
+            }
+            sql.append("and s.content like :q ");
+        }
+    }
 
+    private void setSearchParameters(TypedQuery<?> query, PublicScheduleFilter filter, ScheduleSearchCandidates candidates) {
+        if (hasText(filter.getAuthorName())) {
+            if (candidates.getAuthorIds() != null) {
+                query.setParameter("authorIds", candidates.getAuthorIds());
+            }
+            query.setParameter("authorName", "%" + filter.getAuthorName() + "%");
+        }
+        if (hasText(filter.getQ())) {
+            if (candidates.getScheduleIds() != null) {
+                query.setParameter("scheduleIds", candidates.getScheduleIds());
+            }
+            query.setParameter("q", "%" + filter.getQ() + "%");
+        }
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    //수정일 필터 조건 추가 후, modifiedAt 필터가 적용된 경우 기준 시각 반환
+    private LocalDateTime appendModifiedAtCondition(StringBuilder sql, String modifiedAt, String startModifiedAt, String endModifiedAt) {
         LocalDateTime modifiedTime = null;
 
         //modifiedTime 계산
-        if (filter.getModifiedAt() != null && !filter.getModifiedAt().isEmpty()) {
-            modifiedTime = calculateModifiedTime(filter.getModifiedAt());
+        if (modifiedAt != null && !modifiedAt.isEmpty()) {
+            modifiedTime = calculateModifiedTime(modifiedAt);
 
             if (modifiedTime != null) {
                 sql.append("and s.lastModifiedAt >= :modifiedTime ");
             }
         }
         //startModifiedAt, endModifiedAt 필터링
-        else if (filter.getStartModifiedAt() != null && filter.getEndModifiedAt() != null) {
+        else if (startModifiedAt != null && endModifiedAt != null) {
             sql.append("and s.lastModifiedAt between :startModifiedAt and :endModifiedAt ");
-        } else if (filter.getStartModifiedAt() != null) {
+        } else if (startModifiedAt != null) {
             sql.append("and s.lastModifiedAt >= :startModifiedAt ");
-        } else if (filter.getEndModifiedAt() != null) {
+        } else if (endModifiedAt != null) {
             sql.append("and s.lastModifiedAt <= :endModifiedAt ");
         }
+        return modifiedTime;
+    }
 
-        //작성자 필터링
-        if (filter.getAuthorName() != null && !filter.getAuthorName().isEmpty()) {
-            sql.append("and u.name like :authorName ");
-        }
-
-        //수정일 기준 내림차순 정렬
-        sql.append("group by s ");
-        sql.append("order by  s.lastModifiedAt desc");
-
-        TypedQuery<ScheduleWithCommentAndUserCountsDto> query = em.createQuery(sql.toString(), ScheduleWithCommentAndUserCountsDto.class);
-
+    private void setModifiedAtParameters(TypedQuery<?> query, LocalDateTime modifiedTime, String startModifiedAt, String endModifiedAt) {
         if (modifiedTime != null) {
             query.setParameter("modifiedTime", modifiedTime);
         }
 
-        if (filter.getStartModifiedAt() != null && filter.getEndModifiedAt() != null) {
-            query.setParameter("startModifiedAt", filter.getStartModifiedAt() + " 00:00:00");
-            query.setParameter("endModifiedAt", filter.getEndModifiedAt() + " 23:59:59");
-        } else if (filter.getStartModifiedAt() != null) {
-            query.setParameter("startModifiedAt", filter.getStartModifiedAt() + " 00:00:00");
-        } else if (filter.getEndModifiedAt() != null) {
-            query.setParameter("endModifiedAt", filter.getEndModifiedAt() + " 23:59:59");
+        if (startModifiedAt != null && endModifiedAt != null) {
+            query.setParameter("startModifiedAt", startModifiedAt + " 00:00:00");
+            query.setParameter("endModifiedAt", endModifiedAt + " 23:59:59");
+        } else if (startModifiedAt != null) {
+            query.setParameter("startModifiedAt", startModifiedAt + " 00:00:00");
+        } else if (endModifiedAt != null) {
+            query.setParameter("endModifiedAt", endModifiedAt + " 23:59:59");
         }
+    }
 
-        if (filter.getAuthorName() != null && !filter.getAuthorName().isEmpty()) {
-            query.setParameter("authorName", "%" + filter.getAuthorName() + "%");
+    //커서가 있으면 (lastModifiedAt, id) 기준으로 seek 하고, 없으면 기존 offset 방식으로 조회
+    private void setPageParameters(TypedQuery<?> query, ScheduleCursor cursor, Long page, Long limit) {
+        if (cursor != null) {
+            query.setParameter("cursorModifiedAt", cursor.getLastModifiedAt());
+            query.setParameter("cursorId", cursor.getId());
+        } else {
+            query.setFirstResult((int) (page * limit));
         }
-
-        query.setFirstResult((int) (filter.getPage() * filter.getLimit()));
-        query.setMaxResults((int) (filter.getLimit() + 1));
-
-        return query.getResultList();
+        query.setMaxResults((int) (limit + 1));
     }
 
     private LocalDateTime calculateModifiedTime(String modifiedAt) {
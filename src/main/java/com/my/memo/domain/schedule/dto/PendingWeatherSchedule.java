@@ -0,0 +1,13 @@
+package com.my.memo.domain.schedule.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 날씨 정보가 채워지지 않은 일정의 재적재에 필요한 값만 조회하는 프로젝션입니다
+ */
+public interface PendingWeatherSchedule {
+
+    Long getId();
+
+    LocalDateTime getCreatedAt();
+}
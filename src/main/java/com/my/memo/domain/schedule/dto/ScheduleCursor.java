@@ -0,0 +1,47 @@
+package com.my.memo.domain.schedule.dto;
+
+import com.my.memo.ex.CustomApiException;
+import com.my.memo.ex.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 일정 목록 키셋 페이지네이션에 사용하는 커서입니다
+ * <p>
+ * (lastModifiedAt, id) 쌍을 Base64 URL 문자열로 인코딩하여 클라이언트에게는 불투명한 값으로 전달합니다
+ */
+@Getter
+public class ScheduleCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime lastModifiedAt;
+    private final Long id;
+
+    public ScheduleCursor(LocalDateTime lastModifiedAt, Long id) {
+        this.lastModifiedAt = lastModifiedAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = lastModifiedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScheduleCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new CustomApiException(ErrorCode.INVALID_CURSOR);
+            }
+            return new ScheduleCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
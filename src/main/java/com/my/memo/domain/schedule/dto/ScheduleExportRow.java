@@ -0,0 +1,35 @@
+package com.my.memo.domain.schedule.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 내보내기(export)용 읽기 전용 프로젝션입니다
+ * <p>
+ * 스크롤 조회로 한 행씩 읽으므로 엔티티 대신 필요한 컬럼만 생성자 표현식(select new)으로 채웁니다
+ */
+@Getter
+public final class ScheduleExportRow {
+
+    private final Long id;
+    private final String content;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private final boolean isPublic;
+    private final String weatherOnCreation;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime lastModifiedAt;
+
+    public ScheduleExportRow(Long id, String content, LocalDateTime startAt, LocalDateTime endAt, boolean isPublic,
+                             String weatherOnCreation, LocalDateTime createdAt, LocalDateTime lastModifiedAt) {
+        this.id = id;
+        this.content = content;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.isPublic = isPublic;
+        this.weatherOnCreation = weatherOnCreation;
+        this.createdAt = createdAt;
+        this.lastModifiedAt = lastModifiedAt;
+    }
+}
@@ -0,0 +1,13 @@
+package com.my.memo.domain.schedule.dto;
+
+/**
+ * 검색 색인 구성에 필요한 공개 일정 값만 조회하는 프로젝션입니다
+ */
+public interface ScheduleSearchDocument {
+
+    Long getId();
+
+    String getContent();
+
+    Long getUserId();
+}
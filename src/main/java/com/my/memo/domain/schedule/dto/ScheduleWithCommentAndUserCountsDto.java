@@ -1,21 +1,41 @@
 package com.my.memo.domain.schedule.dto;
 
-import com.my.memo.domain.schedule.Schedule;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 
-@NoArgsConstructor
+/**
+ * 일정 목록 조회용 읽기 전용 프로젝션입니다
+ * <p>
+ * 엔티티 대신 필요한 컬럼만 생성자 표현식(select new)으로 채우므로 영속성 컨텍스트에 관리되지 않고 변경 감지 스냅샷도 만들지 않습니다
+ */
 @Getter
-public class ScheduleWithCommentAndUserCountsDto {
+public final class ScheduleWithCommentAndUserCountsDto {
 
-    private Schedule schedule;
-    private Long commentCnt;
-    private Long assignedUserCnt;
+    private final Long id;
+    //작성자명 (유저 일정 목록에서는 조회하지 않으므로 null)
+    private final String name;
+    private final String content;
+    private final boolean isPublic;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime lastModifiedAt;
+    private final Long commentCnt;
+    private final Long assignedUserCnt;
 
-    public ScheduleWithCommentAndUserCountsDto(Schedule schedule, Long commentCnt, Long assignedUserCnt) {
-        this.schedule = schedule;
+    public ScheduleWithCommentAndUserCountsDto(Long id, String name, String content, boolean isPublic, LocalDateTime createdAt,
+                                               LocalDateTime lastModifiedAt, Long commentCnt, Long assignedUserCnt) {
+        this.id = id;
+        this.name = name;
+        this.content = content;
+        this.isPublic = isPublic;
+        this.createdAt = createdAt;
+        this.lastModifiedAt = lastModifiedAt;
         this.commentCnt = commentCnt;
         this.assignedUserCnt = assignedUserCnt;
     }
+
+    public ScheduleWithCommentAndUserCountsDto(Long id, String content, boolean isPublic, LocalDateTime createdAt,
+                                               LocalDateTime lastModifiedAt, Long commentCnt, Long assignedUserCnt) {
+        this(id, null, content, isPublic, createdAt, lastModifiedAt, commentCnt, assignedUserCnt);
+    }
 }
@@ -12,6 +12,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@Table(name = "schedule_user", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_schedule_user_schedule_user", columnNames = {"schedule_id", "user_id"})
+})
 public class ScheduleUser extends BaseEntity {
 
     @Id
@@ -24,7 +27,7 @@ public class ScheduleUser extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "schedule_id")
-    private Schedule schedule; //최대 5명까지 배정 가능
+    private Schedule schedule; //최대 Schedule.MAX_ASSIGNED_USERS명까지 배정 가능
 
     @Builder
     public ScheduleUser(User user, Schedule schedule) {
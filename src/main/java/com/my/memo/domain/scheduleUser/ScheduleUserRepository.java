@@ -1,26 +1,60 @@
 package com.my.memo.domain.scheduleUser;
 
+import com.my.memo.domain.base.ScheduleChildRow;
 import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.scheduleUser.dto.AssigneeExportRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
 @Repository
 public interface ScheduleUserRepository extends JpaRepository<ScheduleUser, Long> {
 
-    int countScheduleUserBySchedule(Schedule schedule);
+    /*
+     * 배정 기록을 한 번의 multi-row insert로 저장합니다
+     * IDENTITY 전략 엔티티는 JDBC 배치가 적용되지 않으므로 insert ... select로 처리하며,
+     * 존재하지 않거나 탈퇴한 유저는 select 결과에서 빠지고 이미 배정된 유저는 (schedule_id, user_id) 유니크 제약으로 거부됩니다
+     * select 목록의 바인딩 파라미터는 H2가 타입을 추론하지 못하므로 일정 ID는 조인으로, 시각은 cast로 지정합니다
+     * */
+    @Modifying
+    @Query(value = "insert into schedule_user (schedule_id, user_id, created_at, last_modified_at) " +
+            "select s.id, u.id, cast(:now as datetime(6)), cast(:now as datetime(6)) from schedules s, users u " +
+            "where s.id = :scheduleId and u.id in :userIds and u.deleted = false",
+            nativeQuery = true)
+    int insertAll(@Param(value = "scheduleId") Long scheduleId, @Param(value = "userIds") List<Long> userIds, @Param(value = "now") LocalDateTime now);
 
     @Query("select su from ScheduleUser su left join fetch su.user u where su.schedule = :schedule")
     List<ScheduleUser> findScheduleUserBySchedule(@Param(value = "schedule") Schedule schedule);
 
-    @Modifying(clearAutomatically = true)
-    @Query("delete from ScheduleUser su where su.user.id = :userId or su.schedule in :scheduleList")
-    int deleteByUserId(@Param(value = "userId") Long userId, @Param(value = "scheduleList") List<Schedule> scheduleList);
+    //계정 삭제 작업용: 유저의 배정 기록을 id 순으로 나누어 조회
+    //삭제할 때까지 행을 잠가 동시 요청이 먼저 삭제하지 못하도록 함 (집계 컬럼 이중 차감 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select su.id as id, su.schedule.id as scheduleId from ScheduleUser su where su.user.id = :userId order by su.id")
+    List<ScheduleChildRow> findRowsByUserId(@Param(value = "userId") Long userId, Pageable pageable);
+
+    boolean existsByUserId(Long userId);
+
+    //일정 내보내기용: 여러 일정의 배정 유저를 한 번에 조회
+    @Query("select su.schedule.id as scheduleId, u.id as userId, u.name as userName " +
+            "from ScheduleUser su join su.user u where su.schedule.id in :scheduleIds order by su.schedule.id, su.id")
+    List<AssigneeExportRow> findExportRowsByScheduleIds(@Param(value = "scheduleIds") List<Long> scheduleIds);
+
+    @Modifying
+    @Query("delete from ScheduleUser su where su.id in :scheduleUserIds")
+    int deleteByIds(@Param(value = "scheduleUserIds") List<Long> scheduleUserIds);
+
+    @Modifying
+    @Query("delete from ScheduleUser su where su.schedule.id in :scheduleIds")
+    int deleteByScheduleIds(@Param(value = "scheduleIds") List<Long> scheduleIds);
 
     @Modifying(clearAutomatically = true)
     @Query("delete from ScheduleUser su where su.schedule = :schedule and su.user.id in :userIdList")
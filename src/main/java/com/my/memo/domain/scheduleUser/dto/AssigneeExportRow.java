@@ -0,0 +1,13 @@
+package com.my.memo.domain.scheduleUser.dto;
+
+/**
+ * 일정 내보내기 시 일정별 배정 유저를 묶어서 조회하는 프로젝션입니다
+ */
+public interface AssigneeExportRow {
+
+    Long getScheduleId();
+
+    Long getUserId();
+
+    String getUserName();
+}
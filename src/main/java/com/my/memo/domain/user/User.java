@@ -1,11 +1,11 @@
 package com.my.memo.domain.user;
 
 import com.my.memo.domain.base.BaseEntity;
+import com.my.memo.domain.base.IdSequence;
 import com.my.memo.domain.schedule.Schedule;
 import com.my.memo.dto.user.req.UserModifyReqDto;
 import com.my.memo.ex.CustomApiException;
 import com.my.memo.ex.ErrorCode;
-import com.my.memo.util.CustomPasswordUtil;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -29,7 +29,9 @@ public class User extends BaseEntity {
      * */
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(name = "user_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "users", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @Column(length = 12)
@@ -44,6 +46,10 @@ public class User extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    //탈퇴 요청 즉시 true로 바뀌며, 실제 데이터는 계정 삭제 작업이 나누어 삭제
+    @Column(nullable = false)
+    private boolean deleted;
+
     @BatchSize(size = 10)
     @OneToMany(mappedBy = "user")
     private List<Schedule> scheduleList = new ArrayList<>();
@@ -58,13 +64,13 @@ public class User extends BaseEntity {
         this.role = role;
     }
 
-    public void modify(UserModifyReqDto userModifyReqDto) {
+    public void modify(UserModifyReqDto userModifyReqDto, String encodedPassword) {
         if (userModifyReqDto.getEmail() != null)
             this.email = userModifyReqDto.getEmail();
         if (userModifyReqDto.getName() != null)
             this.name = userModifyReqDto.getName();
-        if (userModifyReqDto.getPassword() != null)
-            this.password = userModifyReqDto.getEncodedPassword();
+        if (encodedPassword != null)
+            this.password = encodedPassword;
 
     }
 
@@ -80,10 +86,12 @@ public class User extends BaseEntity {
         }
     }
 
-    public void validatePassword(String encodedPassword) {
-        if (!CustomPasswordUtil.matches(encodedPassword, this.password)) {
-            throw new CustomApiException(ErrorCode.INVALID_PASSWORD);
-        }
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+    public void markDeleted() {
+        this.deleted = true;
     }
 
 }
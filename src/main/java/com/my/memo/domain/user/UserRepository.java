@@ -1,10 +1,15 @@
 package com.my.memo.domain.user;
 
+import com.my.memo.domain.user.dto.UserNameDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,8 +19,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findUserByEmail(String email);
 
+    //로그인 시 재해싱: 그사이 비밀번호가 바뀌었다면 덮어쓰지 않음
+    @Modifying
+    @Query("update User u set u.password = :newPassword where u.id = :userId and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param(value = "userId") Long userId, @Param(value = "oldPassword") String oldPassword,
+                                  @Param(value = "newPassword") String newPassword);
 
-    @Query("select distinct u from User u left join fetch u.scheduleList s where u.id = :userId ")
-    Optional<User> findUserWithSchedulesById(@Param(value = "userId") Long userId);
+    @Modifying
+    @Query("delete from User u where u.id = :userId")
+    int deleteUserById(@Param(value = "userId") Long userId);
+
+    //작성자명 검색 색인 구성용 (id 순으로 나누어 조회)
+    @Query("select u.id as id, u.name as name from User u where u.id > :afterId and u.deleted = false order by u.id")
+    List<UserNameDocument> findUserNameDocuments(@Param(value = "afterId") Long afterId, Pageable pageable);
+
+    @Query("select u.id as id, u.name as name from User u where u.id = :userId and u.deleted = false")
+    Optional<UserNameDocument> findUserNameDocumentById(@Param(value = "userId") Long userId);
+
+    //다른 인스턴스에서 변경/탈퇴한 유저를 색인에 반영하기 위한 조회 (V7 idx_users_last_modified 사용)
+    @Query("select u.id as id, u.name as name from User u " +
+            "where u.lastModifiedAt >= :since and u.deleted = false and u.id > :afterId order by u.id")
+    List<UserNameDocument> findUserNameDocumentsModifiedSince(@Param(value = "since") LocalDateTime since,
+                                                              @Param(value = "afterId") Long afterId, Pageable pageable);
+
+    @Query("select u.id from User u where u.lastModifiedAt >= :since and u.deleted = true and u.id > :afterId order by u.id")
+    List<Long> findDeletedUserIdsModifiedSince(@Param(value = "since") LocalDateTime since,
+                                               @Param(value = "afterId") Long afterId, Pageable pageable);
 
 }
@@ -0,0 +1,11 @@
+package com.my.memo.domain.user.dto;
+
+/**
+ * 작성자명 검색 색인 구성에 필요한 유저 값만 조회하는 프로젝션입니다
+ */
+public interface UserNameDocument {
+
+    Long getId();
+
+    String getName();
+}
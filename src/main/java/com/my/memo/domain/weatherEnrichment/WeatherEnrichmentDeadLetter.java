@@ -0,0 +1,38 @@
+package com.my.memo.domain.weatherEnrichment;
+
+import com.my.memo.domain.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재시도 횟수를 모두 소진한 날씨 보강 작업 기록입니다
+ * <p>
+ * 기록을 삭제하면 해당 일정은 다음 재적재 주기에 다시 보강 대상이 됩니다
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "weather_enrichment_dead_letter")
+public class WeatherEnrichmentDeadLetter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long scheduleId;
+    private String weatherDate;
+    private int attempts;
+    @Column(length = 512)
+    private String lastError;
+
+    @Builder
+    public WeatherEnrichmentDeadLetter(Long id, Long scheduleId, String weatherDate, int attempts, String lastError) {
+        this.id = id;
+        this.scheduleId = scheduleId;
+        this.weatherDate = weatherDate;
+        this.attempts = attempts;
+        this.lastError = lastError;
+    }
+}
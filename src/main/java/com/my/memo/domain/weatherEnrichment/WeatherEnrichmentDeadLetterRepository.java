@@ -0,0 +1,8 @@
+package com.my.memo.domain.weatherEnrichment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WeatherEnrichmentDeadLetterRepository extends JpaRepository<WeatherEnrichmentDeadLetter, Long> {
+}
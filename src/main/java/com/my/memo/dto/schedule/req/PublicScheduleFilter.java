@@ -31,4 +31,15 @@ public class PublicScheduleFilter {
     @Length(max = 12, message = "유효하지 않은 authorName 값입니다")
     private String authorName;
 
+    //일정 내용 검색어 (부분 일치)
+    @Length(max = 100, message = "유효하지 않은 q 값입니다")
+    private String q;
+
+    //키셋 페이지네이션 커서 (지정 시 page는 무시)
+    @Pattern(regexp = "^[A-Za-z0-9_-]+$", message = "유효하지 않은 cursor 값입니다")
+    private String cursor;
+
+    //무한 스크롤 등 전체 개수가 필요 없는 경우 totalCounts/totalPages 계산 생략
+    private Boolean skipTotals = false;
+
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.my.memo.dto.schedule.req;
+
+import com.my.memo.ex.CustomApiException;
+import com.my.memo.ex.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 일정 내보내기 형식입니다
+ */
+@Getter
+public enum ScheduleExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ScheduleExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static ScheduleExportFormat from(String format) {
+        for (ScheduleExportFormat value : values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new CustomApiException(ErrorCode.INVALID_EXPORT_FORMAT);
+    }
+}
@@ -27,4 +27,11 @@ public class UserScheduleFilter {
     @Pattern(regexp = "^\\d{4}-\\d{2}-\\d{2}$", message = "유효하지 않은 날짜 형식입니다")
     private String endModifiedAt;
 
+    //키셋 페이지네이션 커서 (지정 시 page는 무시)
+    @Pattern(regexp = "^[A-Za-z0-9_-]+$", message = "유효하지 않은 cursor 값입니다")
+    private String cursor;
+
+    //무한 스크롤 등 전체 개수가 필요 없는 경우 totalCounts/totalPages 계산 생략
+    private Boolean skipTotals = false;
+
 }
@@ -23,12 +23,14 @@ import java.util.stream.Collectors;
 public class PublicScheduleListRespDto {
     private List<ScheduleRespDto> scheduleRespDtoList;
     private boolean hasNextPage;
-    private int totalCounts;
-    private int totalPages;
+    private Integer totalCounts;
+    private Integer totalPages;
     private int currentPage;
+    private String nextCursor;
 
-    public PublicScheduleListRespDto(List<ScheduleWithCommentAndUserCountsDto> scheduleList, boolean hasNextPage, int totalPublicSchedules, int totalPages, int currentPage) {
+    public PublicScheduleListRespDto(List<ScheduleWithCommentAndUserCountsDto> scheduleList, boolean hasNextPage, Integer totalPublicSchedules, Integer totalPages, int currentPage, String nextCursor) {
         this.hasNextPage = hasNextPage;
+        this.nextCursor = nextCursor;
         this.scheduleRespDtoList = scheduleList.stream()
                 .map(ScheduleRespDto::new)
                 .collect(Collectors.toList());
@@ -52,12 +54,12 @@ public class PublicScheduleListRespDto {
         private int assignedUserCnt;
 
         public ScheduleRespDto(ScheduleWithCommentAndUserCountsDto scheduleDto) {
-            this.content = scheduleDto.getSchedule().getContent();
-            this.isPublic = scheduleDto.getSchedule().isPublic();
-            this.id = scheduleDto.getSchedule().getId();
-            this.name = scheduleDto.getSchedule().getUser().getName();
-            this.createdAt = scheduleDto.getSchedule().getCreatedAt();
-            this.modifiedAt = scheduleDto.getSchedule().getLastModifiedAt();
+            this.content = scheduleDto.getContent();
+            this.isPublic = scheduleDto.isPublic();
+            this.id = scheduleDto.getId();
+            this.name = scheduleDto.getName();
+            this.createdAt = scheduleDto.getCreatedAt();
+            this.modifiedAt = scheduleDto.getLastModifiedAt();
             this.assignedUserCnt = (int) scheduleDto.getAssignedUserCnt().longValue();
             this.commentCnt = (int) scheduleDto.getCommentCnt().longValue();
         }
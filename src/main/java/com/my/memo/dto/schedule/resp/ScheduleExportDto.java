@@ -0,0 +1,78 @@
+package com.my.memo.dto.schedule.resp;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.my.memo.domain.comment.dto.CommentExportRow;
+import com.my.memo.domain.schedule.dto.ScheduleExportRow;
+import com.my.memo.domain.scheduleUser.dto.AssigneeExportRow;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일정 내보내기의 일정 한 건입니다 (배정 유저, 댓글 포함)
+ */
+@NoArgsConstructor
+@Getter
+public class ScheduleExportDto {
+
+    private Long id;
+    private String content;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime startAt;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime endAt;
+    private Boolean isPublic;
+    private String weatherOnCreation;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime createdAt;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime lastModifiedAt;
+    private List<AssigneeDto> assignees;
+    private List<CommentDto> comments;
+
+    public ScheduleExportDto(ScheduleExportRow schedule, List<AssigneeExportRow> assignees, List<CommentExportRow> comments) {
+        this.id = schedule.getId();
+        this.content = schedule.getContent();
+        this.startAt = schedule.getStartAt();
+        this.endAt = schedule.getEndAt();
+        this.isPublic = schedule.isPublic();
+        this.weatherOnCreation = schedule.getWeatherOnCreation();
+        this.createdAt = schedule.getCreatedAt();
+        this.lastModifiedAt = schedule.getLastModifiedAt();
+        this.assignees = assignees.stream().map(AssigneeDto::new).toList();
+        this.comments = comments.stream().map(CommentDto::new).toList();
+    }
+
+    @NoArgsConstructor
+    @Getter
+    public static class AssigneeDto {
+        private Long id;
+        private String name;
+
+        public AssigneeDto(AssigneeExportRow assignee) {
+            this.id = assignee.getUserId();
+            this.name = assignee.getUserName();
+        }
+    }
+
+    @NoArgsConstructor
+    @Getter
+    public static class CommentDto {
+        private Long id;
+        private String content;
+        private Long authorId;
+        private String authorName;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+        private LocalDateTime createdAt;
+
+        public CommentDto(CommentExportRow comment) {
+            this.id = comment.getId();
+            this.content = comment.getContent();
+            this.authorId = comment.getAuthorId();
+            this.authorName = comment.getAuthorName();
+            this.createdAt = comment.getCreatedAt();
+        }
+    }
+}
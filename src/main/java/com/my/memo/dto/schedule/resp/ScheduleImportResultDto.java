@@ -0,0 +1,52 @@
+package com.my.memo.dto.schedule.resp;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 일정 가져오기 응답 스트림(NDJSON)의 항목별 결과 한 줄입니다
+ */
+@NoArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScheduleImportResultDto {
+
+    //요청 본문에서의 항목 순서 (0부터 시작)
+    private Integer index;
+    private Status status;
+    private Long scheduleId;
+    private Map<String, String> errors;
+    private String message;
+
+    public ScheduleImportResultDto(Integer index, Status status, Long scheduleId, Map<String, String> errors, String message) {
+        this.index = index;
+        this.status = status;
+        this.scheduleId = scheduleId;
+        this.errors = errors;
+        this.message = message;
+    }
+
+    public static ScheduleImportResultDto created(int index, Long scheduleId) {
+        return new ScheduleImportResultDto(index, Status.CREATED, scheduleId, null, null);
+    }
+
+    public static ScheduleImportResultDto invalid(int index, Map<String, String> errors) {
+        return new ScheduleImportResultDto(index, Status.INVALID, null, errors, "유효성 검사 실패");
+    }
+
+    public static ScheduleImportResultDto failed(int index, String message) {
+        return new ScheduleImportResultDto(index, Status.FAILED, null, null, message);
+    }
+
+    //본문을 더 이상 읽을 수 없어 가져오기를 중단한 경우 (이전 배치까지는 저장됨)
+    public static ScheduleImportResultDto aborted(int index, String message) {
+        return new ScheduleImportResultDto(index, Status.ABORTED, null, null, message);
+    }
+
+    public enum Status {
+        CREATED, INVALID, FAILED, ABORTED
+    }
+}
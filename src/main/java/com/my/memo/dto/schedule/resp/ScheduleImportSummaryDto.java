@@ -0,0 +1,34 @@
+package com.my.memo.dto.schedule.resp;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일정 가져오기 응답 스트림의 마지막 줄로 전송되는 요약입니다
+ */
+@NoArgsConstructor
+@Getter
+public class ScheduleImportSummaryDto {
+
+    private Summary summary;
+
+    public ScheduleImportSummaryDto(int total, int created, int failed, boolean aborted) {
+        this.summary = new Summary(total, created, failed, aborted);
+    }
+
+    @NoArgsConstructor
+    @Getter
+    public static class Summary {
+        private int total;
+        private int created;
+        private int failed;
+        private boolean aborted;
+
+        public Summary(int total, int created, int failed, boolean aborted) {
+            this.total = total;
+            this.created = created;
+            this.failed = failed;
+            this.aborted = aborted;
+        }
+    }
+}
@@ -17,12 +17,14 @@ public class UserScheduleListRespDto {
     private List<ScheduleRespDto> scheduleRespDtoList;
     private boolean hasNextPage;
     private String name;
-    private int totalCounts;
-    private int totalPages;
+    private Integer totalCounts;
+    private Integer totalPages;
     private int currentPage;
+    private String nextCursor;
 
-    public UserScheduleListRespDto(List<ScheduleWithCommentAndUserCountsDto> scheduleList, boolean hasNextPage, User user, int totalCounts, int totalPages, int currentPage) {
+    public UserScheduleListRespDto(List<ScheduleWithCommentAndUserCountsDto> scheduleList, boolean hasNextPage, User user, Integer totalCounts, Integer totalPages, int currentPage, String nextCursor) {
         this.hasNextPage = hasNextPage;
+        this.nextCursor = nextCursor;
         this.scheduleRespDtoList = scheduleList.stream()
                 .map(s -> new ScheduleRespDto(s))
                 .collect(Collectors.toList());
@@ -47,11 +49,11 @@ public class UserScheduleListRespDto {
 
 
         public ScheduleRespDto(ScheduleWithCommentAndUserCountsDto scheduleDto) {
-            this.content = scheduleDto.getSchedule().getContent();
-            this.isPublic = scheduleDto.getSchedule().isPublic();
-            this.id = scheduleDto.getSchedule().getId();
-            this.createdAt = scheduleDto.getSchedule().getCreatedAt();
-            this.modifiedAt = scheduleDto.getSchedule().getLastModifiedAt();
+            this.content = scheduleDto.getContent();
+            this.isPublic = scheduleDto.isPublic();
+            this.id = scheduleDto.getId();
+            this.createdAt = scheduleDto.getCreatedAt();
+            this.modifiedAt = scheduleDto.getLastModifiedAt();
             this.assignedUserCnt = (int) scheduleDto.getAssignedUserCnt().longValue();
             this.commentCnt = (int) scheduleDto.getCommentCnt().longValue();
         }
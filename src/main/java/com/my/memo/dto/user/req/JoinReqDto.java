@@ -3,7 +3,6 @@ package com.my.memo.dto.user.req;
 import com.my.memo.domain.user.Role;
 import com.my.memo.domain.user.User;
 import com.my.memo.dto.user.req.valid.name.IsKoreanOrEnglish;
-import com.my.memo.util.CustomPasswordUtil;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -34,12 +33,12 @@ public class JoinReqDto {
     @NotBlank(message = "역할을 입력해야 합니다")
     private String role;
 
-    public User toEntity() {
+    public User toEntity(String encodedPassword) {
         return User.builder()
                 .name(this.name)
                 .email(this.email)
                 .role(Role.valueOf(this.role))
-                .password(CustomPasswordUtil.encode(this.password))
+                .password(encodedPassword)
                 .build();
     }
 
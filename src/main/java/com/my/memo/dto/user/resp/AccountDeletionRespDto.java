@@ -0,0 +1,44 @@
+package com.my.memo.dto.user.resp;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.my.memo.domain.accountDeletion.AccountDeletionJob;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter
+public class AccountDeletionRespDto {
+    private Long userId;
+    private String status;
+    private String phase;
+    private Long deletedAssignments;
+    private Long deletedComments;
+    private Long deletedSchedules;
+    private Integer attempts;
+    private Integer restarts;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String lastError;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime requestedAt;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime lastModifiedAt;
+
+    public AccountDeletionRespDto(AccountDeletionJob job) {
+        this.userId = job.getUserId();
+        this.status = job.getStatus().name();
+        this.phase = job.getPhase().name();
+        this.deletedAssignments = job.getDeletedAssignments();
+        this.deletedComments = job.getDeletedComments();
+        this.deletedSchedules = job.getDeletedSchedules();
+        this.attempts = job.getAttempts();
+        this.restarts = job.getRestarts();
+        this.lastError = job.getLastError();
+        this.requestedAt = job.getCreatedAt();
+        this.lastModifiedAt = job.getLastModifiedAt();
+    }
+}
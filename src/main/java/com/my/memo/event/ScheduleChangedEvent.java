@@ -0,0 +1,26 @@
+package com.my.memo.event;
+
+import lombok.Getter;
+
+/**
+ * 일정이 생성/수정/삭제되었음을 알리는 이벤트입니다
+ * <p>
+ * 트랜잭션 커밋 이후 캐시 무효화 등 후속 처리에 사용됩니다
+ */
+@Getter
+public class ScheduleChangedEvent {
+
+    private final Type type;
+    private final Long scheduleId;
+    private final Long ownerId;
+
+    public ScheduleChangedEvent(Type type, Long scheduleId, Long ownerId) {
+        this.type = type;
+        this.scheduleId = scheduleId;
+        this.ownerId = ownerId;
+    }
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,18 @@
+package com.my.memo.event;
+
+import lombok.Getter;
+
+/**
+ * 일정의 댓글 수 또는 배정 인원 수가 변경되었음을 알리는 이벤트입니다
+ * <p>
+ * 일정의 정렬 기준(수정일)은 바뀌지 않으므로 해당 일정이 포함된 캐시만 무효화하는 데 사용됩니다
+ */
+@Getter
+public class ScheduleCountsChangedEvent {
+
+    private final Long scheduleId;
+
+    public ScheduleCountsChangedEvent(Long scheduleId) {
+        this.scheduleId = scheduleId;
+    }
+}
@@ -0,0 +1,21 @@
+package com.my.memo.event;
+
+import lombok.Getter;
+
+/**
+ * 날씨 정보 없이 저장된 일정이 생겼음을 알리는 이벤트입니다
+ * <p>
+ * 트랜잭션 커밋 이후 날씨 보강 큐에 적재하는 데 사용됩니다
+ */
+@Getter
+public class ScheduleWeatherPendingEvent {
+
+    private final Long scheduleId;
+    //날씨를 조회할 날짜 (MM-dd)
+    private final String date;
+
+    public ScheduleWeatherPendingEvent(Long scheduleId, String date) {
+        this.scheduleId = scheduleId;
+        this.date = date;
+    }
+}
@@ -0,0 +1,26 @@
+package com.my.memo.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일정 가져오기(import)로 한 배치의 일정이 생성되었음을 알리는 이벤트입니다
+ * <p>
+ * 일정마다 {@link ScheduleChangedEvent}를 발행하면 수만 건의 캐시 무효화/색인 갱신이 일어나므로 배치 단위로 한 번만 발행합니다
+ * 날씨 없이 저장된 배치라면 커밋 이후 날씨 보강 큐에 적재하는 데에도 사용됩니다
+ */
+@Getter
+public class SchedulesImportedEvent {
+
+    private final Long ownerId;
+    private final List<Long> scheduleIds;
+    //날씨를 조회할 날짜 (MM-dd), 날씨가 채워진 채로 저장되었으면 null
+    private final String pendingWeatherDate;
+
+    public SchedulesImportedEvent(Long ownerId, List<Long> scheduleIds, String pendingWeatherDate) {
+        this.ownerId = ownerId;
+        this.scheduleIds = scheduleIds;
+        this.pendingWeatherDate = pendingWeatherDate;
+    }
+}
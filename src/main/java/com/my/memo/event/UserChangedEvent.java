@@ -0,0 +1,22 @@
+package com.my.memo.event;
+
+import lombok.Getter;
+
+/**
+ * 유저가 가입했거나 정보가 수정되었거나 계정이 삭제되었음을 알리는 이벤트입니다
+ */
+@Getter
+public class UserChangedEvent {
+
+    private final Type type;
+    private final Long userId;
+
+    public UserChangedEvent(Type type, Long userId) {
+        this.type = type;
+        this.userId = userId;
+    }
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -22,7 +22,11 @@ public enum ErrorCode {
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "해당 댓글은 존재하지 않습니다"),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "존재하지 않는 유저입니다"),
     SCHEDULE_USER_LIMIT_EXCEEDED(400, "일정은 최대 5명의 유저까지만 배정 가능합니다"),
-    COMMENT_NOT_IN_SCHEDULE(400, "해당 스케줄에 속한 댓글이 아닙니다");
+    COMMENT_NOT_IN_SCHEDULE(400, "해당 스케줄에 속한 댓글이 아닙니다"),
+    INVALID_CURSOR(400, "유효하지 않은 커서입니다"),
+    INVALID_EXPORT_FORMAT(400, "지원하지 않는 내보내기 형식입니다 (ndjson, csv)"),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    ACCOUNT_DELETION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "해당 유저의 계정 삭제 작업이 존재하지 않습니다");
 
     private final int status;
     private final String msg;
@@ -0,0 +1,11 @@
+package com.my.memo.ex;
+
+/**
+ * statement-budget.mode=FAIL 일 때 SQL 문 예산을 초과하면 발생합니다 (테스트에서 N+1 회귀 검출용)
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,223 @@
+package com.my.memo.job;
+
+import com.my.memo.domain.accountDeletion.AccountDeletionJob;
+import com.my.memo.domain.accountDeletion.AccountDeletionJobRepository;
+import com.my.memo.domain.base.ScheduleChildRow;
+import com.my.memo.domain.comment.CommentRepository;
+import com.my.memo.domain.schedule.ScheduleRepository;
+import com.my.memo.domain.scheduleUser.ScheduleUserRepository;
+import com.my.memo.domain.user.UserRepository;
+import com.my.memo.event.ScheduleChangedEvent;
+import com.my.memo.event.ScheduleCountsChangedEvent;
+import com.my.memo.event.UserChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 탈퇴한 유저의 데이터를 청크 단위로 나누어 삭제하는 백그라운드 작업입니다
+ * <p>
+ * 청크마다 별도 트랜잭션에서 행 삭제, 일정 집계 컬럼 차감, 작업 진행 상태 갱신을 함께 커밋하므로
+ * 한 번에 긴 락을 잡지 않고, 중간에 중단되어도 마지막 체크포인트부터 이어서 처리합니다
+ * 여러 인스턴스가 같은 작업을 집으면 작업 행의 version 충돌로 한쪽 트랜잭션만 커밋됩니다
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountDeletionWorker {
+
+    private static final List<AccountDeletionJob.Status> ACTIVE_STATUSES =
+            List.of(AccountDeletionJob.Status.PENDING, AccountDeletionJob.Status.RUNNING);
+
+    private final AccountDeletionJobRepository accountDeletionJobRepository;
+    private final ScheduleUserRepository scheduleUserRepository;
+    private final CommentRepository commentRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private TransactionTemplate transactionTemplate;
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    //배정 기록/댓글 삭제 청크 크기
+    @Value("${account-deletion.chunk-size:500}")
+    private int chunkSize;
+
+    //일정 삭제 청크 크기 (일정마다 댓글/배정 기록을 함께 삭제하므로 더 작게 유지)
+    @Value("${account-deletion.schedule-chunk-size:50}")
+    private int scheduleChunkSize;
+
+    @Value("${account-deletion.jobs-per-run:10}")
+    private int jobsPerRun;
+
+    //한 번의 실행에서 작업 하나가 처리할 최대 청크 수 (다른 작업이 밀리지 않도록 제한)
+    @Value("${account-deletion.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    @Value("${account-deletion.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${account-deletion.max-restarts:3}")
+    private int maxRestarts;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${account-deletion.poll-interval:5s}")
+    public void process() {
+        List<Long> jobIds = accountDeletionJobRepository.findIdsByStatusIn(ACTIVE_STATUSES, PageRequest.of(0, jobsPerRun));
+        jobIds.forEach(this::run);
+    }
+
+    private void run(Long jobId) {
+        try {
+            for (int i = 0; i < maxChunksPerRun; i++) {
+                if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(jobId)))) {
+                    return;
+                }
+            }
+        } catch (OptimisticLockingFailureException e) {
+            //다른 인스턴스가 같은 작업을 처리 중이므로 이번 실행은 건너뜀
+            log.debug("계정 삭제 작업 충돌, 다음 실행에서 재시도: 작업 ID {}", jobId);
+        } catch (Exception e) {
+            log.warn("계정 삭제 청크 처리 실패: 작업 ID {}: {}", jobId, e.getMessage());
+            recordFailure(jobId, e);
+        }
+    }
+
+    //청크 하나를 처리하고, 남은 작업이 있으면 true 반환
+    private boolean processChunk(Long jobId) {
+        AccountDeletionJob job = accountDeletionJobRepository.findById(jobId).orElse(null);
+        if (job == null || !ACTIVE_STATUSES.contains(job.getStatus())) {
+            return false;
+        }
+        job.start();
+
+        switch (job.getPhase()) {
+            case ASSIGNMENTS -> deleteAssignments(job);
+            case COMMENTS -> deleteComments(job);
+            case SCHEDULES -> deleteSchedules(job);
+            case USER -> deleteUser(job);
+            case DONE -> {
+            }
+        }
+        return job.getStatus() == AccountDeletionJob.Status.RUNNING;
+    }
+
+    //유저가 다른 일정에 배정된 기록 삭제 + 해당 일정 배정 인원 수 차감
+    private void deleteAssignments(AccountDeletionJob job) {
+        List<ScheduleChildRow> rows = scheduleUserRepository.findRowsByUserId(job.getUserId(), PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            job.moveTo(AccountDeletionJob.Phase.COMMENTS);
+            return;
+        }
+        int deletedCnt = scheduleUserRepository.deleteByIds(rows.stream().map(ScheduleChildRow::getId).toList());
+        verifyAllDeleted(rows, deletedCnt);
+        subtractCounts(rows, scheduleRepository::subtractAssignedUserCnt);
+        job.addDeletedAssignments(deletedCnt);
+    }
+
+    //유저가 작성한 댓글 삭제 + 해당 일정 댓글 수 차감
+    private void deleteComments(AccountDeletionJob job) {
+        List<ScheduleChildRow> rows = commentRepository.findRowsByUserId(job.getUserId(), PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            job.moveTo(AccountDeletionJob.Phase.SCHEDULES);
+            return;
+        }
+        int deletedCnt = commentRepository.deleteByIds(rows.stream().map(ScheduleChildRow::getId).toList());
+        verifyAllDeleted(rows, deletedCnt);
+        subtractCounts(rows, scheduleRepository::subtractCommentCnt);
+        job.addDeletedComments(deletedCnt);
+    }
+
+    //유저의 일정을 id 순으로 나누어, 일정에 달린 댓글/배정 기록과 함께 삭제
+    private void deleteSchedules(AccountDeletionJob job) {
+        List<Long> scheduleIds = scheduleRepository.findIdsByUserId(job.getUserId(), job.getLastScheduleId(), PageRequest.of(0, scheduleChunkSize));
+        if (scheduleIds.isEmpty()) {
+            job.moveTo(AccountDeletionJob.Phase.USER);
+            return;
+        }
+
+        int deletedCommentCnt = 0;
+        List<Long> commentIds;
+        while (!(commentIds = commentRepository.findIdsByScheduleIds(scheduleIds, PageRequest.of(0, chunkSize))).isEmpty()) {
+            deletedCommentCnt += commentRepository.deleteByIds(commentIds);
+        }
+        int deletedAssignedCnt = scheduleUserRepository.deleteByScheduleIds(scheduleIds);
+        int deletedScheduleCnt = scheduleRepository.deleteByIds(scheduleIds);
+
+        job.addDeletedComments(deletedCommentCnt);
+        job.addDeletedAssignments(deletedAssignedCnt);
+        job.addDeletedSchedules(deletedScheduleCnt, scheduleIds.get(scheduleIds.size() - 1));
+        scheduleIds.forEach(scheduleId ->
+                eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.DELETED, scheduleId, job.getUserId())));
+    }
+
+    private void deleteUser(AccountDeletionJob job) {
+        Long userId = job.getUserId();
+        //탈퇴 처리 직전에 진행 중이던 요청으로 행이 추가되었으면 처음 단계부터 다시 정리
+        if (scheduleUserRepository.existsByUserId(userId) || commentRepository.existsByUserId(userId) || scheduleRepository.existsByUserId(userId)) {
+            job.restart(maxRestarts);
+            if (job.getStatus() == AccountDeletionJob.Status.FAILED) {
+                log.error("계정 삭제 재시작 횟수 초과: 작업 ID {}, 유저 ID {}", job.getId(), userId);
+            } else {
+                log.warn("계정 삭제 중 남은 데이터 발견, 처음 단계부터 다시 처리 ({}회): 유저 ID {}", job.getRestarts(), userId);
+            }
+            return;
+        }
+        userRepository.deleteUserById(userId);
+        job.moveTo(AccountDeletionJob.Phase.DONE);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.DELETED, userId));
+        log.info("계정 삭제 완료: 유저 ID {}, 배정 기록 {}건, 댓글 {}건, 일정 {}건",
+                userId, job.getDeletedAssignments(), job.getDeletedComments(), job.getDeletedSchedules());
+    }
+
+    /*
+     * 행은 잠금 조회로 읽었으므로 모두 이 트랜잭션에서 삭제되어야 함
+     * 일부만 삭제되었다면 어느 일정에서 빠졌는지 알 수 없으므로 청크를 롤백하고 다음 실행에서 다시 읽음
+     * */
+    private void verifyAllDeleted(List<ScheduleChildRow> rows, int deletedCnt) {
+        if (deletedCnt != rows.size()) {
+            throw new IllegalStateException("조회한 " + rows.size() + "건 중 " + deletedCnt + "건만 삭제되었습니다");
+        }
+    }
+
+    //삭제한 행 기준으로 일정별 차감 (같은 일정에 여러 행이 있을 수 있으므로 차감할 개수별로 묶어서 갱신)
+    private void subtractCounts(List<ScheduleChildRow> rows, BiFunction<List<Long>, Long, Integer> subtract) {
+        Map<Long, Long> countByScheduleId = rows.stream()
+                .collect(Collectors.groupingBy(ScheduleChildRow::getScheduleId, Collectors.counting()));
+        Map<Long, List<Long>> scheduleIdsByDelta = countByScheduleId.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        scheduleIdsByDelta.forEach((delta, scheduleIds) -> subtract.apply(scheduleIds, delta));
+        countByScheduleId.keySet().forEach(scheduleId -> eventPublisher.publishEvent(new ScheduleCountsChangedEvent(scheduleId)));
+    }
+
+    private void recordFailure(Long jobId, Exception e) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> accountDeletionJobRepository.findById(jobId)
+                    .ifPresent(job -> {
+                        job.recordFailure(e.getMessage(), maxAttempts);
+                        if (job.getStatus() == AccountDeletionJob.Status.FAILED) {
+                            log.error("계정 삭제 작업 재시도 초과: 작업 ID {}, 유저 ID {}", jobId, job.getUserId());
+                        }
+                    }));
+        } catch (Exception recordEx) {
+            log.error("계정 삭제 실패 기록 실패: 작업 ID {}: {}", jobId, recordEx.getMessage());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.my.memo.job;
+
+import com.my.memo.domain.schedule.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정의 댓글 수/배정 인원 수 집계 컬럼을 실제 데이터와 맞추는 보정 작업입니다
+ * <p>
+ * 집계 컬럼은 댓글/배정 변경 시 같은 트랜잭션에서 증감되지만, 수동 데이터 수정 등으로 어긋날 수 있으므로
+ * id 범위 단위로 나누어 주기적으로 다시 계산합니다
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleCountReconcileJob {
+
+    private final ScheduleRepository scheduleRepository;
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${schedule.count-reconcile.chunk-size:1000}")
+    private long chunkSize;
+
+    @Scheduled(cron = "${schedule.count-reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        Long maxId = scheduleRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        int repairedCnt = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            //청크마다 별도 트랜잭션으로 실행하여 락 점유 시간을 짧게 유지
+            repairedCnt += scheduleRepository.reconcileCounts(fromId, fromId + chunkSize - 1);
+        }
+        log.info("일정 집계 컬럼 보정 완료: 보정된 일정 수 {}", repairedCnt);
+    }
+}
@@ -0,0 +1,135 @@
+package com.my.memo.job;
+
+import com.my.memo.client.weather.WeatherClient;
+import com.my.memo.domain.schedule.ScheduleRepository;
+import com.my.memo.domain.schedule.dto.PendingWeatherSchedule;
+import com.my.memo.domain.weatherEnrichment.WeatherEnrichmentDeadLetter;
+import com.my.memo.domain.weatherEnrichment.WeatherEnrichmentDeadLetterRepository;
+import com.my.memo.util.CustomUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 날씨 정보 없이 저장된 일정에 날씨를 채우는 백그라운드 작업입니다
+ * <p>
+ * 큐에서 작업을 배치 단위로 꺼내 날짜별로 묶어 벌크 update 하며, 실패한 작업은 지수 백오프로 재시도하고
+ * 최대 횟수를 넘으면 데드레터 테이블에 기록합니다
+ * 날씨 스냅샷을 아직 받아오지 못한 동안에는 재시도 횟수를 소모하지 않고 대기합니다
+ */
+@Component
+@RequiredArgsConstructor
+public class WeatherEnrichmentJob {
+
+    private final WeatherEnrichmentQueue weatherEnrichmentQueue;
+    private final WeatherClient weatherClient;
+    private final ScheduleRepository scheduleRepository;
+    private final WeatherEnrichmentDeadLetterRepository deadLetterRepository;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${weather.enrichment.batch-size:100}")
+    private int batchSize;
+
+    @Value("${weather.enrichment.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${weather.enrichment.retry-backoff:5s}")
+    private Duration retryBackoff;
+
+    @Value("${weather.enrichment.sweep-grace:1m}")
+    private Duration sweepGrace;
+
+    @Scheduled(fixedDelayString = "${weather.enrichment.poll-interval:1s}")
+    public void enrich() {
+        List<WeatherEnrichmentQueue.Task> tasks = weatherEnrichmentQueue.poll(batchSize);
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<WeatherEnrichmentQueue.Task>> tasksByDate = tasks.stream()
+                .collect(Collectors.groupingBy(WeatherEnrichmentQueue.Task::date));
+
+        tasksByDate.forEach((date, dateTasks) -> {
+            Optional<String> weather = weatherClient.findWeather(date);
+            if (weather.isEmpty()) {
+                dateTasks.forEach(task -> weatherEnrichmentQueue.postpone(task, retryBackoff.toMillis()));
+                return;
+            }
+            fill(dateTasks, weather.get());
+        });
+    }
+
+    private void fill(List<WeatherEnrichmentQueue.Task> tasks, String weather) {
+        List<Long> scheduleIds = tasks.stream().map(WeatherEnrichmentQueue.Task::scheduleId).toList();
+        try {
+            int updatedCnt = scheduleRepository.fillPendingWeather(scheduleIds, weather);
+            tasks.forEach(weatherEnrichmentQueue::complete);
+            Counter.builder("weather.enrichment.completed").register(meterRegistry).increment(tasks.size());
+            log.debug("일정 날씨 보강 완료: 대상 {}건, 반영 {}건", scheduleIds.size(), updatedCnt);
+        } catch (Exception e) {
+            log.warn("일정 날씨 보강 실패: 일정 ID {}: {}", scheduleIds, e.getMessage());
+            tasks.forEach(task -> handleFailure(task, e));
+        }
+    }
+
+    private void handleFailure(WeatherEnrichmentQueue.Task task, Exception e) {
+        if (task.attempts() + 1 < maxAttempts) {
+            weatherEnrichmentQueue.retry(task, retryBackoff.multipliedBy(1L << Math.min(task.attempts(), 10)).toMillis());
+            return;
+        }
+        try {
+            deadLetterRepository.save(WeatherEnrichmentDeadLetter.builder()
+                    .scheduleId(task.scheduleId())
+                    .weatherDate(task.date())
+                    .attempts(task.attempts() + 1)
+                    .lastError(abbreviate(e.getMessage()))
+                    .build());
+            Counter.builder("weather.enrichment.dead-lettered").register(meterRegistry).increment();
+            log.error("일정 날씨 보강 재시도 초과, 데드레터 기록: 일정 ID {}", task.scheduleId());
+        } catch (Exception deadLetterEx) {
+            log.error("데드레터 기록 실패: 일정 ID {}: {}", task.scheduleId(), deadLetterEx.getMessage());
+        } finally {
+            weatherEnrichmentQueue.complete(task);
+        }
+    }
+
+    //큐가 가득 차 버려졌거나 재시작으로 유실된 대기 일정을 다시 적재
+    @Scheduled(fixedDelayString = "${weather.enrichment.sweep-interval:5m}")
+    public void sweep() {
+        LocalDateTime createdBefore = LocalDateTime.now(clock).minus(sweepGrace);
+        List<PendingWeatherSchedule> pendingList = scheduleRepository.findPendingWeatherSchedules(createdBefore, PageRequest.of(0, batchSize * 10));
+
+        int offeredCnt = 0;
+        for (PendingWeatherSchedule pending : pendingList) {
+            if (weatherEnrichmentQueue.offer(pending.getId(), CustomUtil.localDateTimeToFormattedString(pending.getCreatedAt()))) {
+                offeredCnt++;
+            }
+        }
+        if (offeredCnt > 0) {
+            log.info("날씨 대기 일정 재적재: {}건", offeredCnt);
+        }
+    }
+
+    private String abbreviate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 512 ? message.substring(0, 512) : message;
+    }
+}
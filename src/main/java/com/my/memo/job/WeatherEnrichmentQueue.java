@@ -0,0 +1,142 @@
+package com.my.memo.job;
+
+import com.my.memo.event.ScheduleWeatherPendingEvent;
+import com.my.memo.event.SchedulesImportedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 날씨 정보를 채워야 하는 일정을 보관하는 메모리 큐입니다
+ * <p>
+ * 용량을 넘으면 적재하지 않고 버리며, 버려지거나 재시작으로 유실된 작업은 {@link WeatherEnrichmentJob}의 재적재 주기에 다시 들어옵니다
+ */
+@Component
+@RequiredArgsConstructor
+public class WeatherEnrichmentQueue {
+
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${weather.enrichment.queue-capacity:10000}")
+    private int capacity;
+
+    private BlockingQueue<Task> queue;
+    //같은 일정이 중복 적재되지 않도록 큐에 있는(또는 처리 중인) 일정 ID 보관
+    private final Set<Long> queuedScheduleIds = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        queue = new LinkedBlockingQueue<>(capacity);
+        Gauge.builder("weather.enrichment.queue.depth", queue, BlockingQueue::size)
+                .description("날씨 보강 대기 중인 일정 수")
+                .register(meterRegistry);
+        Gauge.builder("weather.enrichment.lag", this, WeatherEnrichmentQueue::lagSeconds)
+                .description("가장 오래 대기 중인 작업의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWeatherPending(ScheduleWeatherPendingEvent event) {
+        offer(event.getScheduleId(), event.getDate());
+    }
+
+    //가져오기 배치가 커밋될 때마다 적재하여 재적재 주기를 기다리지 않도록 함
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchedulesImported(SchedulesImportedEvent event) {
+        if (event.getPendingWeatherDate() == null) {
+            return;
+        }
+        int dropped = 0;
+        for (Long scheduleId : event.getScheduleIds()) {
+            if (queuedScheduleIds.add(scheduleId) && !enqueue(scheduleId, event.getPendingWeatherDate())) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.warn("날씨 보강 큐가 가득 차 가져온 일정 {}건 적재 생략 (재적재 주기에 다시 적재)", dropped);
+        }
+    }
+
+    public boolean offer(Long scheduleId, String date) {
+        if (!queuedScheduleIds.add(scheduleId)) {
+            return false;
+        }
+        if (!enqueue(scheduleId, date)) {
+            log.warn("날씨 보강 큐가 가득 차 적재 생략: 일정 ID {}", scheduleId);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean enqueue(Long scheduleId, String date) {
+        long now = clock.millis();
+        if (!queue.offer(new Task(scheduleId, date, 0, now, now))) {
+            queuedScheduleIds.remove(scheduleId);
+            return false;
+        }
+        return true;
+    }
+
+    //처리 시각이 된 작업만 꺼내고 아직 대기해야 하는 재시도 작업은 다시 넣음
+    List<Task> poll(int batchSize) {
+        long now = clock.millis();
+        List<Task> drained = new ArrayList<>();
+        queue.drainTo(drained, batchSize);
+
+        List<Task> due = new ArrayList<>();
+        for (Task task : drained) {
+            if (task.nextAttemptAt() <= now) {
+                due.add(task);
+            } else {
+                requeue(task);
+            }
+        }
+        return due;
+    }
+
+    //실패한 작업을 재시도 횟수를 늘려 다시 적재
+    void retry(Task task, long delayMillis) {
+        requeue(new Task(task.scheduleId(), task.date(), task.attempts() + 1, task.enqueuedAt(), clock.millis() + delayMillis));
+    }
+
+    //처리할 수 없는 상태(날씨 스냅샷 준비 전)의 작업을 재시도 횟수 변경 없이 미룸
+    void postpone(Task task, long delayMillis) {
+        requeue(new Task(task.scheduleId(), task.date(), task.attempts(), task.enqueuedAt(), clock.millis() + delayMillis));
+    }
+
+    void complete(Task task) {
+        queuedScheduleIds.remove(task.scheduleId());
+    }
+
+    private void requeue(Task task) {
+        if (!queue.offer(task)) {
+            queuedScheduleIds.remove(task.scheduleId());
+            log.warn("날씨 보강 큐가 가득 차 재시도 생략: 일정 ID {}", task.scheduleId());
+        }
+    }
+
+    private double lagSeconds() {
+        Task head = queue.peek();
+        return head == null ? 0 : (clock.millis() - head.enqueuedAt()) / 1000.0;
+    }
+
+    record Task(Long scheduleId, String date, int attempts, long enqueuedAt, long nextAttemptAt) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.my.memo.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션의 DataSource를 datasource-proxy로 감싸 SQL 실행을 관찰할 수 있게 합니다
+ * <p>
+ * 커넥션 풀(Hikari) 메트릭은 unwrap으로 원본 풀을 찾아 그대로 수집됩니다
+ */
+@Component
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new StatementCountingListener())
+                    .build();
+        }
+        return bean;
+    }
+}
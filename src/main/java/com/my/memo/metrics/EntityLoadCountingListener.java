@@ -0,0 +1,52 @@
+package com.my.memo.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate가 엔티티를 로드할 때마다 엔티티별 카운터와 현재 요청의 로드 수를 증가시킵니다
+ * <p>
+ * hibernate.generate_statistics 없이 로드 이벤트만 구독하므로 세션마다 통계 로그가 남지 않습니다
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityLoadCountingListener implements PostLoadEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        String entityName = event.getPersister().getEntityName();
+        counters.computeIfAbsent(entityName, name -> Counter.builder("hibernate.entity.loads")
+                        .tag("entity", name.substring(name.lastIndexOf('.') + 1))
+                        .register(meterRegistry))
+                .increment();
+
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.entityLoaded();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.my.memo.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나를 처리하는 동안 실행된 SQL 문과 로드된 엔티티 수를 모읍니다
+ * <p>
+ * 요청 스레드에 묶인 ThreadLocal 값이므로 동기화 없이 갱신하며, 요청 밖(배치 작업 등)에서는 current()가 null 입니다
+ * 비동기 스트리밍 응답처럼 다른 스레드에서 실행된 SQL은 집계되지 않습니다
+ * SQL 문별 실행 횟수는 비용을 줄이기 위해 추적이 켜진 동안(@StatementBudget 검사 중)에만 모읍니다
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCnt;
+    private long statementNanos;
+    private long statementStartedAt;
+    private int entityLoadCnt;
+    private int trackingDepth;
+    private final Map<String, Integer> sqlCounts = new HashMap<>();
+
+    private RequestQueryStats() {
+    }
+
+    public static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void statementStarted() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    void statementFinished(String sql) {
+        statementCnt++;
+        statementNanos += System.nanoTime() - statementStartedAt;
+        if (trackingDepth > 0) {
+            sqlCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * SQL 문별 실행 횟수 추적을 시작합니다 (중첩 가능)
+     *
+     * @return 시작 시점까지의 SQL 문별 실행 횟수 (중첩된 경우 차이 계산에 사용)
+     */
+    public Map<String, Integer> startTracking() {
+        trackingDepth++;
+        return sqlCounts.isEmpty() ? Map.of() : Map.copyOf(sqlCounts);
+    }
+
+    public void stopTracking() {
+        if (--trackingDepth == 0) {
+            sqlCounts.clear();
+        }
+    }
+
+    public Map<String, Integer> getSqlCounts() {
+        return sqlCounts;
+    }
+
+    void entityLoaded() {
+        entityLoadCnt++;
+    }
+
+    public int getStatementCnt() {
+        return statementCnt;
+    }
+
+    public long getStatementNanos() {
+        return statementNanos;
+    }
+
+    public int getEntityLoadCnt() {
+        return entityLoadCnt;
+    }
+}
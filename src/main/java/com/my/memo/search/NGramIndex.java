@@ -0,0 +1,103 @@
+package com.my.memo.search;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * n-gram -> 문서 ID 역색인입니다
+ * <p>
+ * 쓰기는 동기화하고 읽기는 락 없이 수행합니다 (읽는 도중 갱신이 섞이면 후보가 일시적으로 많거나 적을 수 있음)
+ */
+class NGramIndex {
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> documentGrams = new ConcurrentHashMap<>();
+
+    synchronized void put(Long id, String text) {
+        Set<String> newGrams = NGramTokenizer.documentGrams(text);
+        Set<String> oldGrams = documentGrams.getOrDefault(id, Set.of());
+
+        for (String gram : oldGrams) {
+            if (!newGrams.contains(gram)) {
+                removePosting(gram, id);
+            }
+        }
+        for (String gram : newGrams) {
+            if (!oldGrams.contains(gram)) {
+                postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+        documentGrams.put(id, newGrams);
+    }
+
+    synchronized void remove(Long id) {
+        Set<String> oldGrams = documentGrams.remove(id);
+        if (oldGrams != null) {
+            oldGrams.forEach(gram -> removePosting(gram, id));
+        }
+    }
+
+    /**
+     * 검색어의 모든 n-gram을 포함하는 문서 ID를 반환합니다
+     *
+     * @return 후보가 maxCandidates를 넘거나 검색어에 색인 대상 문자가 없으면 빈 값
+     */
+    Optional<Set<Long>> search(String query, int maxCandidates) {
+        Set<String> grams = NGramTokenizer.queryGrams(query);
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Set<Long>> postingList = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null || posting.isEmpty()) {
+                return Optional.of(Set.of());
+            }
+            postingList.add(posting);
+        }
+        postingList.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>();
+        for (Long id : postingList.get(0)) {
+            if (containsAll(postingList, id)) {
+                result.add(id);
+                if (result.size() > maxCandidates) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(result);
+    }
+
+    int size() {
+        return documentGrams.size();
+    }
+
+    int gramCnt() {
+        return postings.size();
+    }
+
+    long postingCnt() {
+        return postings.values().stream().mapToLong(Set::size).sum();
+    }
+
+    private boolean containsAll(List<Set<Long>> postingList, Long id) {
+        for (int i = 1; i < postingList.size(); i++) {
+            if (!postingList.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removePosting(String gram, Long id) {
+        Set<Long> posting = postings.get(gram);
+        if (posting != null) {
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+}
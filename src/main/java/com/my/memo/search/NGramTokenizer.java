@@ -0,0 +1,64 @@
+package com.my.memo.search;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 검색 색인에 사용하는 n-gram(1-gram, 2-gram) 토크나이저입니다
+ * <p>
+ * 한글 완성형 음절(가-힣), 영문(대소문자 구분 없음), 숫자만 색인 대상 문자로 보고 나머지 문자는 구분자로 취급합니다
+ * 문서와 검색어를 같은 규칙으로 분해하므로, 검색어가 문서의 부분 문자열이면 검색어의 n-gram은 항상 문서의 n-gram에 포함됩니다
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    //문서 색인용: 모든 1-gram과 2-gram
+    public static Set<String> documentGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        char prev = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = normalize(text.charAt(i));
+            if (c == 0) {
+                prev = 0;
+                continue;
+            }
+            grams.add(String.valueOf(c));
+            if (prev != 0) {
+                grams.add(new String(new char[]{prev, c}));
+            }
+            prev = c;
+        }
+        return grams;
+    }
+
+    //검색용: 2-gram이 있으면 2-gram만, 한 글자 검색어면 1-gram 사용
+    public static Set<String> queryGrams(String query) {
+        Set<String> grams = documentGrams(query);
+        Set<String> bigrams = new HashSet<>();
+        for (String gram : grams) {
+            if (gram.length() == 2) {
+                bigrams.add(gram);
+            }
+        }
+        return bigrams.isEmpty() ? grams : bigrams;
+    }
+
+    //색인 대상이 아니면 0 반환
+    private static char normalize(char c) {
+        if (c >= '가' && c <= '힣') {
+            return c;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return Character.toLowerCase(c);
+        }
+        if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+            return c;
+        }
+        return 0;
+    }
+}
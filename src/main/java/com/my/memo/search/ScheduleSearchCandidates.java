@@ -0,0 +1,30 @@
+package com.my.memo.search;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 검색 색인으로 좁힌 후보 ID 집합입니다
+ * <p>
+ * 값이 null이면 색인을 사용할 수 없어 해당 조건은 LIKE 조건만으로 조회하며,
+ * 후보는 상위 집합이므로 조회 시 LIKE 조건으로 한 번 더 확인합니다
+ */
+@Getter
+public class ScheduleSearchCandidates {
+
+    public static final ScheduleSearchCandidates NONE = new ScheduleSearchCandidates(null, null);
+
+    private final Set<Long> scheduleIds;
+    private final Set<Long> authorIds;
+
+    public ScheduleSearchCandidates(Set<Long> scheduleIds, Set<Long> authorIds) {
+        this.scheduleIds = scheduleIds;
+        this.authorIds = authorIds;
+    }
+
+    //색인상 일치하는 일정이 없어 조회할 필요가 없는 경우
+    public boolean isNoMatch() {
+        return (scheduleIds != null && scheduleIds.isEmpty()) || (authorIds != null && authorIds.isEmpty());
+    }
+}
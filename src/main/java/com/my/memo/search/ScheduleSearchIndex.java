@@ -0,0 +1,315 @@
+package com.my.memo.search;
+
+import com.my.memo.domain.schedule.ScheduleRepository;
+import com.my.memo.domain.schedule.dto.ScheduleSearchDocument;
+import com.my.memo.domain.user.UserRepository;
+import com.my.memo.domain.user.dto.UserNameDocument;
+import com.my.memo.event.ScheduleChangedEvent;
+import com.my.memo.event.SchedulesImportedEvent;
+import com.my.memo.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공개 일정 내용과 작성자명에 대한 메모리 n-gram 검색 색인입니다
+ * <p>
+ * 앞쪽 와일드카드 LIKE('%검색어%')는 인덱스를 사용할 수 없으므로, 색인으로 후보 ID를 먼저 좁힌 뒤 조회 쿼리에 ID 조건으로 전달합니다
+ * 애플리케이션 시작 후 백그라운드에서 전체 색인을 구성하고, 이후에는 일정/유저 변경 이벤트로 증분 갱신합니다
+ * 이벤트는 같은 인스턴스에서 일어난 변경만 전달되므로, 다른 인스턴스의 변경은 last_modified_at 워터마크 이후 변경분을
+ * 주기적으로 다시 읽어 반영합니다 (catch-up-interval 만큼 늦게 검색될 수 있음)
+ * 색인 구성 전이거나 후보가 너무 많으면 빈 값을 반환하여 기존 LIKE 조회를 사용합니다
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleSearchIndex {
+
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final TaskScheduler taskScheduler;
+    private final Clock clock;
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final NGramIndex contentIndex = new NGramIndex();
+    private final NGramIndex authorIndex = new NGramIndex();
+    //유저 삭제 시 함께 삭제된 일정을 색인에서 제거하기 위한 작성자 -> 일정 ID (일정 -> 작성자는 제거 시 역참조용)
+    private final Map<Long, Set<Long>> scheduleIdsByOwner = new ConcurrentHashMap<>();
+    private final Map<Long, Long> ownerByScheduleId = new ConcurrentHashMap<>();
+    //색인 구성 중에 변경된 일정/유저 (구성 완료 후 다시 반영)
+    private final Set<Long> dirtyScheduleIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+    //이 시각 이후(겹침 구간 포함) 변경된 일정/유저를 다음 따라잡기에서 다시 읽음
+    private volatile LocalDateTime catchUpWatermark;
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.index.max-candidates:1000}")
+    private int maxCandidates;
+
+    @Value("${search.index.build-chunk-size:1000}")
+    private int buildChunkSize;
+
+    //커밋이 늦은 트랜잭션과 인스턴스 간 시계 차이를 감안해 워터마크보다 이만큼 앞부터 다시 읽음
+    @Value("${search.index.catch-up-overlap:1m}")
+    private Duration catchUpOverlap;
+
+    public ScheduleSearchCandidates search(String q, String authorName) {
+        if (!enabled || !ready) {
+            return ScheduleSearchCandidates.NONE;
+        }
+        Set<Long> scheduleIds = hasText(q) ? contentIndex.search(q, maxCandidates).orElse(null) : null;
+        Set<Long> authorIds = hasText(authorName) ? authorIndex.search(authorName, maxCandidates).orElse(null) : null;
+        return new ScheduleSearchCandidates(scheduleIds, authorIds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            taskScheduler.schedule(this::build, clock.instant());
+        }
+    }
+
+    void build() {
+        long startedAt = clock.millis();
+        LocalDateTime watermark = LocalDateTime.now(clock);
+        try {
+            long afterId = 0L;
+            List<ScheduleSearchDocument> documents;
+            do {
+                documents = scheduleRepository.findPublicSearchDocuments(afterId, PageRequest.of(0, buildChunkSize));
+                documents.forEach(this::putSchedule);
+                if (!documents.isEmpty()) {
+                    afterId = documents.get(documents.size() - 1).getId();
+                }
+            } while (documents.size() == buildChunkSize);
+
+            afterId = 0L;
+            List<UserNameDocument> users;
+            do {
+                users = userRepository.findUserNameDocuments(afterId, PageRequest.of(0, buildChunkSize));
+                users.forEach(user -> authorIndex.put(user.getId(), user.getName()));
+                if (!users.isEmpty()) {
+                    afterId = users.get(users.size() - 1).getId();
+                }
+            } while (users.size() == buildChunkSize);
+
+            catchUpWatermark = watermark;
+            ready = true;
+            //구성 중에 읽은 값이 이후 변경되었을 수 있으므로 변경분을 다시 반영
+            applyDirty();
+            log.info("검색 색인 구성 완료: 일정 {}건 (n-gram {}개, posting {}건), 유저 {}건, {}ms",
+                    contentIndex.size(), contentIndex.gramCnt(), contentIndex.postingCnt(), authorIndex.size(), clock.millis() - startedAt);
+        } catch (Exception e) {
+            log.error("검색 색인 구성 실패, LIKE 조회를 사용합니다: ", e);
+        }
+    }
+
+    /**
+     * 마지막 따라잡기(또는 전체 구성) 이후 변경된 일정/유저를 다시 읽어 반영합니다
+     * <p>
+     * 다른 인스턴스에서 삭제된 일정은 찾을 수 없어 색인에 남지만, 후보는 상위 집합이므로 조회 결과에는 영향이 없습니다
+     */
+    @Scheduled(fixedDelayString = "${search.index.catch-up-interval:30s}")
+    public void catchUp() {
+        if (!enabled || !ready) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        LocalDateTime since = catchUpWatermark.minus(catchUpOverlap);
+        try {
+            int changedCnt = 0;
+            long afterId = 0L;
+            List<ScheduleSearchDocument> documents;
+            do {
+                documents = scheduleRepository.findPublicSearchDocumentsModifiedSince(since, afterId, PageRequest.of(0, buildChunkSize));
+                documents.forEach(this::putSchedule);
+                changedCnt += documents.size();
+                if (!documents.isEmpty()) {
+                    afterId = documents.get(documents.size() - 1).getId();
+                }
+            } while (documents.size() == buildChunkSize);
+
+            afterId = 0L;
+            List<Long> scheduleIds;
+            do {
+                scheduleIds = scheduleRepository.findPrivateScheduleIdsModifiedSince(since, afterId, PageRequest.of(0, buildChunkSize));
+                scheduleIds.forEach(this::removeSchedule);
+                changedCnt += scheduleIds.size();
+                if (!scheduleIds.isEmpty()) {
+                    afterId = scheduleIds.get(scheduleIds.size() - 1);
+                }
+            } while (scheduleIds.size() == buildChunkSize);
+
+            afterId = 0L;
+            List<UserNameDocument> users;
+            do {
+                users = userRepository.findUserNameDocumentsModifiedSince(since, afterId, PageRequest.of(0, buildChunkSize));
+                users.forEach(user -> authorIndex.put(user.getId(), user.getName()));
+                changedCnt += users.size();
+                if (!users.isEmpty()) {
+                    afterId = users.get(users.size() - 1).getId();
+                }
+            } while (users.size() == buildChunkSize);
+
+            afterId = 0L;
+            List<Long> deletedUserIds;
+            do {
+                deletedUserIds = userRepository.findDeletedUserIdsModifiedSince(since, afterId, PageRequest.of(0, buildChunkSize));
+                deletedUserIds.forEach(this::removeUser);
+                changedCnt += deletedUserIds.size();
+                if (!deletedUserIds.isEmpty()) {
+                    afterId = deletedUserIds.get(deletedUserIds.size() - 1);
+                }
+            } while (deletedUserIds.size() == buildChunkSize);
+
+            catchUpWatermark = startedAt;
+            log.debug("검색 색인 따라잡기 완료: {} 이후 변경 {}건", since, changedCnt);
+        } catch (Exception e) {
+            log.warn("검색 색인 따라잡기 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!ready) {
+            dirtyScheduleIds.add(event.getScheduleId());
+            applyDirtyIfReady();
+            return;
+        }
+        if (event.getType() == ScheduleChangedEvent.Type.DELETED) {
+            removeSchedule(event.getScheduleId());
+        } else {
+            refreshSchedule(event.getScheduleId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchedulesImported(SchedulesImportedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!ready) {
+            dirtyScheduleIds.addAll(event.getScheduleIds());
+            applyDirtyIfReady();
+            return;
+        }
+        //배치 단위로 한 번에 조회하여 반영 (비공개 일정은 조회 결과에서 제외됨)
+        scheduleRepository.findPublicSearchDocumentsByIds(event.getScheduleIds()).forEach(this::putSchedule);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!ready) {
+            dirtyUserIds.add(event.getUserId());
+            applyDirtyIfReady();
+            return;
+        }
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            removeUser(event.getUserId());
+        } else {
+            refreshUser(event.getUserId());
+        }
+    }
+
+    //색인 구성 완료 직전에 dirty 집합에 추가된 변경은 build()가 이미 비운 뒤일 수 있으므로 추가한 쪽에서도 반영
+    private void applyDirtyIfReady() {
+        if (ready) {
+            applyDirty();
+        }
+    }
+
+    //여러 스레드가 동시에 호출해도 각 ID는 한 번만 꺼내짐 (최신 값을 다시 읽으므로 중복 반영되어도 무방)
+    private void applyDirty() {
+        dirtyScheduleIds.removeIf(scheduleId -> {
+            refreshSchedule(scheduleId);
+            return true;
+        });
+        dirtyUserIds.removeIf(userId -> {
+            refreshUser(userId);
+            return true;
+        });
+    }
+
+    //커밋된 최신 값을 다시 읽어 반영 (비공개로 바뀌었거나 삭제되었으면 제거)
+    private void refreshSchedule(Long scheduleId) {
+        scheduleRepository.findPublicSearchDocumentById(scheduleId).ifPresentOrElse(
+                this::putSchedule,
+                () -> removeSchedule(scheduleId));
+    }
+
+    private void refreshUser(Long userId) {
+        userRepository.findUserNameDocumentById(userId).ifPresentOrElse(
+                user -> authorIndex.put(user.getId(), user.getName()),
+                () -> removeUser(userId));
+    }
+
+    private void putSchedule(ScheduleSearchDocument document) {
+        contentIndex.put(document.getId(), document.getContent());
+        Long previousOwnerId = ownerByScheduleId.put(document.getId(), document.getUserId());
+        if (previousOwnerId != null && !previousOwnerId.equals(document.getUserId())) {
+            removeOwned(previousOwnerId, document.getId());
+        }
+        scheduleIdsByOwner.computeIfAbsent(document.getUserId(), k -> ConcurrentHashMap.newKeySet()).add(document.getId());
+    }
+
+    private void removeSchedule(Long scheduleId) {
+        contentIndex.remove(scheduleId);
+        Long ownerId = ownerByScheduleId.remove(scheduleId);
+        if (ownerId != null) {
+            removeOwned(ownerId, scheduleId);
+        }
+    }
+
+    private void removeOwned(Long ownerId, Long scheduleId) {
+        Set<Long> ownedIds = scheduleIdsByOwner.get(ownerId);
+        if (ownedIds != null) {
+            ownedIds.remove(scheduleId);
+        }
+    }
+
+    //탈퇴한 유저는 작성자명과 함께 그 유저의 일정도 색인에서 제거
+    private void removeUser(Long userId) {
+        authorIndex.remove(userId);
+        Set<Long> ownedIds = scheduleIdsByOwner.remove(userId);
+        if (ownedIds != null) {
+            ownedIds.forEach(scheduleId -> {
+                contentIndex.remove(scheduleId);
+                ownerByScheduleId.remove(scheduleId);
+            });
+        }
+    }
+
+    //벤치마크에서 색인 크기를 확인하기 위한 접근자
+    NGramIndex getContentIndex() {
+        return contentIndex;
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
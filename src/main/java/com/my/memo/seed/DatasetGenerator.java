@@ -0,0 +1,202 @@
+package com.my.memo.seed;
+
+import com.my.memo.domain.base.IdSequence;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.util.CustomPasswordUtil;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 대용량 합성 데이터셋(유저, 일정, 댓글, 배정 기록)을 JDBC 배치 insert로 생성합니다
+ * <p>
+ * 실제 운영 데이터와 비슷하도록 일정 소유자와 일정별 댓글 수를 한쪽으로 쏠리게(멱법칙) 만들고,
+ * 공개 비율과 수정일 분산을 설정할 수 있습니다. 집계 컬럼(comment_cnt, assigned_user_cnt)은 생성한 행 수와 일치시킵니다
+ * 일정은 batchSize 단위로 댓글/배정 기록과 함께 한 트랜잭션에 저장하므로 메모리 사용량은 데이터 규모와 무관합니다
+ * (MySQL은 커넥션 URL에 rewriteBatchedStatements=true 가 있어야 배치가 multi-row insert로 전송됨)
+ * <p>
+ * ID는 애플리케이션과 같은 id_sequences 테이블에서 블록 단위로 예약하므로, 실행 중인 서버가 있어도 ID가 겹치지 않습니다
+ */
+@Component
+@RequiredArgsConstructor
+public class DatasetGenerator {
+
+    private static final String[] WORDS = {"회의", "과제", "운동", "점심", "스터디", "배포", "리뷰", "여행", "병원", "장보기",
+            "면접", "발표", "정산", "이사", "독서", "meeting", "deploy", "review", "study", "lunch", "sprint", "release"};
+    private static final String[] WEATHERS = {"맑음", "흐림", "비", "눈", "구름 많음"};
+    private static final int MAX_RESERVE_ATTEMPTS = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final Clock clock;
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${password.bcrypt.cost:10}")
+    private int passwordCost;
+
+    public Result generate(DatasetSpec spec) {
+        long startedAt = clock.millis();
+        SplittableRandom random = new SplittableRandom(spec.getRandomSeed());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        long firstUserId = reserveIds("users", spec.getUsers());
+        long firstScheduleId = reserveIds("schedules", spec.getSchedules());
+
+        insertUsers(spec, firstUserId, now, transactionTemplate);
+
+        long commentCnt = 0;
+        long assignmentCnt = 0;
+        for (int from = 0; from < spec.getSchedules(); from += spec.getBatchSize()) {
+            int to = Math.min(spec.getSchedules(), from + spec.getBatchSize());
+            Chunk chunk = buildChunk(spec, random, from, to, firstUserId, firstScheduleId, now);
+            chunk.assignCommentIds(reserveIds("comments", chunk.comments.size()));
+            transactionTemplate.executeWithoutResult(status -> chunk.insert(jdbcTemplate));
+            commentCnt += chunk.comments.size();
+            assignmentCnt += chunk.assignments.size();
+        }
+
+        Result result = new Result(firstUserId, spec.getUsers(), firstScheduleId, spec.getSchedules(), commentCnt, assignmentCnt);
+        log.info("데이터셋 생성 완료: 유저 {}건, 일정 {}건, 댓글 {}건, 배정 {}건, {}ms",
+                result.users(), result.schedules(), result.comments(), result.assignments(), clock.millis() - startedAt);
+        return result;
+    }
+
+    private void insertUsers(DatasetSpec spec, long firstUserId, LocalDateTime now, TransactionTemplate transactionTemplate) {
+        //모든 유저가 같은 비밀번호를 사용하므로 한 번만 해싱
+        String encodedPassword = CustomPasswordUtil.encode(spec.getPassword(), passwordCost);
+        Timestamp createdAt = Timestamp.valueOf(now.minusDays(spec.getModifiedWithinDays()));
+
+        for (int from = 0; from < spec.getUsers(); from += spec.getBatchSize()) {
+            int to = Math.min(spec.getUsers(), from + spec.getBatchSize());
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                long userId = firstUserId + i;
+                rows.add(new Object[]{userId, "u" + userId, "seed" + userId + "@memo.com", encodedPassword, "USER", createdAt, createdAt});
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "insert into users (id, name, email, password, role, created_at, last_modified_at) values (?, ?, ?, ?, ?, ?, ?)", rows));
+        }
+    }
+
+    private Chunk buildChunk(DatasetSpec spec, SplittableRandom random, int from, int to, long firstUserId,
+                             long firstScheduleId, LocalDateTime now) {
+        Chunk chunk = new Chunk(to - from);
+        int modifiedWithinMinutes = spec.getModifiedWithinDays() * 24 * 60;
+
+        for (int i = from; i < to; i++) {
+            long scheduleId = firstScheduleId + i;
+            long ownerId = firstUserId + skewedIndex(random, spec.getUsers(), spec.getOwnerSkew());
+            LocalDateTime lastModifiedAt = now.minusMinutes(random.nextInt(modifiedWithinMinutes));
+            LocalDateTime createdAt = lastModifiedAt.minusMinutes(random.nextInt(60 * 24 * 7));
+            LocalDateTime startAt = createdAt.plusDays(random.nextInt(30));
+
+            int commentCnt = powerLaw(random, spec.getCommentAlpha(), spec.getMaxCommentsPerSchedule());
+            for (int c = 0; c < commentCnt; c++) {
+                long authorId = firstUserId + skewedIndex(random, spec.getUsers(), spec.getOwnerSkew());
+                Timestamp commentedAt = Timestamp.valueOf(createdAt.plusMinutes(random.nextInt(60 * 24)));
+                //댓글 수는 청크를 만들어 봐야 알 수 있으므로 ID는 예약 후 채움
+                chunk.comments.add(new Object[]{null, scheduleId, authorId, "댓글 " + word(random) + " " + c, commentedAt, commentedAt});
+            }
+
+            int assigneeCnt = Math.min(spec.getUsers(), random.nextInt(Math.min(spec.getMaxAssigneesPerSchedule(), Schedule.MAX_ASSIGNED_USERS) + 1));
+            Set<Long> assigneeIds = new HashSet<>();
+            while (assigneeIds.size() < assigneeCnt) {
+                assigneeIds.add(firstUserId + random.nextInt(spec.getUsers()));
+            }
+            Timestamp assignedAt = Timestamp.valueOf(createdAt);
+            assigneeIds.forEach(assigneeId -> chunk.assignments.add(new Object[]{scheduleId, assigneeId, assignedAt, assignedAt}));
+
+            chunk.schedules.add(new Object[]{scheduleId, ownerId, word(random) + " " + word(random) + " " + i,
+                    random.nextDouble() < spec.getPublicRatio(),
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(lastModifiedAt),
+                    Timestamp.valueOf(startAt), Timestamp.valueOf(startAt.plusHours(1 + random.nextInt(48))),
+                    WEATHERS[random.nextInt(WEATHERS.length)], commentCnt, assigneeCnt});
+        }
+        return chunk;
+    }
+
+    //[0, size) 범위에서 앞쪽으로 쏠린 인덱스 (skew=1이면 균등)
+    private int skewedIndex(SplittableRandom random, int size, double skew) {
+        return Math.min(size - 1, (int) (size * Math.pow(random.nextDouble(), skew)));
+    }
+
+    //파레토 분포(x_min = 1)에서 뽑은 값 - 1, 대부분 0~2개이고 일부 일정에 댓글이 몰림
+    private int powerLaw(SplittableRandom random, double alpha, int max) {
+        double value = Math.pow(1 - random.nextDouble(), -1 / (alpha - 1));
+        return (int) Math.min(max, Math.floor(value) - 1);
+    }
+
+    private String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    /**
+     * id_sequences 에서 count 개의 연속된 ID를 예약하고 첫 ID를 반환합니다
+     * <p>
+     * pooled 할당기는 읽은 값 v에 대해 (v - allocationSize, v] 를 사용하므로, next_val 을 v + (allocationSize 배수)로 올리면
+     * v - allocationSize + 1 부터 그만큼을 단독으로 사용할 수 있습니다 (V5__id_sequences.sql 참고)
+     * 그 사이 다른 서버가 블록을 가져갔다면 조건부 update가 0건이 되므로 다시 읽어 재시도합니다
+     */
+    private long reserveIds(String sequenceName, long count) {
+        long blockSize = (count + IdSequence.ALLOCATION_SIZE - 1) / IdSequence.ALLOCATION_SIZE * IdSequence.ALLOCATION_SIZE;
+        for (int attempt = 1; attempt <= MAX_RESERVE_ATTEMPTS; attempt++) {
+            Long current = jdbcTemplate.queryForObject("select " + IdSequence.VALUE_COLUMN + " from " + IdSequence.TABLE +
+                    " where " + IdSequence.PK_COLUMN + " = ?", Long.class, sequenceName);
+            long firstId = current - IdSequence.ALLOCATION_SIZE + 1;
+            if (blockSize == 0) {
+                return firstId;
+            }
+            int updated = jdbcTemplate.update("update " + IdSequence.TABLE + " set " + IdSequence.VALUE_COLUMN + " = ? where " +
+                    IdSequence.PK_COLUMN + " = ? and " + IdSequence.VALUE_COLUMN + " = ?", current + blockSize, sequenceName, current);
+            if (updated == 1) {
+                return firstId;
+            }
+            log.debug("{} ID 블록 예약 경합, 재시도 ({}회)", sequenceName, attempt);
+        }
+        throw new IllegalStateException(sequenceName + " ID 블록 예약에 " + MAX_RESERVE_ATTEMPTS + "회 실패했습니다");
+    }
+
+    private static class Chunk {
+        private final List<Object[]> schedules;
+        private final List<Object[]> comments = new ArrayList<>();
+        private final List<Object[]> assignments = new ArrayList<>();
+
+        private Chunk(int scheduleCnt) {
+            this.schedules = new ArrayList<>(scheduleCnt);
+        }
+
+        private void assignCommentIds(long firstCommentId) {
+            for (int i = 0; i < comments.size(); i++) {
+                comments.get(i)[0] = firstCommentId + i;
+            }
+        }
+
+        private void insert(JdbcTemplate jdbcTemplate) {
+            jdbcTemplate.batchUpdate("insert into schedules (id, user_id, content, is_public, created_at, last_modified_at, start_at, end_at, " +
+                    "weather_on_creation, comment_cnt, assigned_user_cnt) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", schedules);
+            if (!comments.isEmpty()) {
+                jdbcTemplate.batchUpdate("insert into comments (id, schedule_id, user_id, content, created_at, last_modified_at) values (?, ?, ?, ?, ?, ?)", comments);
+            }
+            if (!assignments.isEmpty()) {
+                jdbcTemplate.batchUpdate("insert into schedule_user (schedule_id, user_id, created_at, last_modified_at) values (?, ?, ?, ?)", assignments);
+            }
+        }
+    }
+
+    /**
+     * 생성된 데이터의 ID 범위와 행 수 (유저/일정 ID는 first...Id 부터 연속)
+     */
+    public record Result(long firstUserId, int users, long firstScheduleId, int schedules, long comments, long assignments) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.my.memo.seed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * seed 프로필로 실행하면 기동 시 합성 데이터셋을 생성합니다
+ * <p>
+ * 예: ./gradlew bootRun --args='--spring.profiles.active=test,seed --seed.users=100000 --seed.schedules=1000000'
+ * 벤치마크와 부하 테스트는 같은 설정(seed.*)으로 같은 데이터를 재현할 수 있습니다
+ */
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class DatasetSeedRunner implements ApplicationRunner {
+
+    private final DatasetGenerator datasetGenerator;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${seed.users:10000}")
+    private int users;
+
+    @Value("${seed.schedules:100000}")
+    private int schedules;
+
+    @Value("${seed.public-ratio:0.7}")
+    private double publicRatio;
+
+    @Value("${seed.owner-skew:2.0}")
+    private double ownerSkew;
+
+    @Value("${seed.comments.alpha:2.2}")
+    private double commentAlpha;
+
+    @Value("${seed.comments.max:500}")
+    private int maxCommentsPerSchedule;
+
+    @Value("${seed.assignees.max:3}")
+    private int maxAssigneesPerSchedule;
+
+    @Value("${seed.modified-within-days:180}")
+    private int modifiedWithinDays;
+
+    @Value("${seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${seed.password:password1234}")
+    private String password;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        datasetGenerator.generate(DatasetSpec.builder()
+                .randomSeed(randomSeed)
+                .users(users)
+                .schedules(schedules)
+                .publicRatio(publicRatio)
+                .ownerSkew(ownerSkew)
+                .commentAlpha(commentAlpha)
+                .maxCommentsPerSchedule(maxCommentsPerSchedule)
+                .maxAssigneesPerSchedule(maxAssigneesPerSchedule)
+                .modifiedWithinDays(modifiedWithinDays)
+                .batchSize(batchSize)
+                .password(password)
+                .build());
+    }
+}
@@ -0,0 +1,51 @@
+package com.my.memo.seed;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 합성 데이터셋의 규모와 분포 설정입니다
+ */
+@Getter
+@Builder
+public class DatasetSpec {
+
+    //같은 seed와 설정이면 같은 데이터가 생성됨
+    @Builder.Default
+    private final long randomSeed = 42L;
+
+    @Builder.Default
+    private final int users = 10_000;
+
+    @Builder.Default
+    private final int schedules = 100_000;
+
+    //공개 일정 비율
+    @Builder.Default
+    private final double publicRatio = 0.7;
+
+    //일정 소유자 쏠림 정도 (1이면 균등, 클수록 앞쪽 유저에게 일정이 몰림)
+    @Builder.Default
+    private final double ownerSkew = 2.0;
+
+    //일정별 댓글 수 멱법칙 지수 (작을수록 꼬리가 두꺼움)
+    @Builder.Default
+    private final double commentAlpha = 2.2;
+
+    @Builder.Default
+    private final int maxCommentsPerSchedule = 500;
+
+    //일정별 배정 유저 수 최댓값 (0 ~ 이 값 사이에서 균등)
+    @Builder.Default
+    private final int maxAssigneesPerSchedule = 3;
+
+    //lastModifiedAt을 분산시킬 기간 (현재 시각 기준 과거 일 수)
+    @Builder.Default
+    private final int modifiedWithinDays = 180;
+
+    @Builder.Default
+    private final int batchSize = 1_000;
+
+    @Builder.Default
+    private final String password = "password1234";
+}
@@ -1,6 +1,7 @@
 package com.my.memo.service;
 
 import com.my.memo.aop.valid.RequireAuthenticatedUser;
+import com.my.memo.aop.valid.StatementBudget;
 import com.my.memo.domain.comment.Comment;
 import com.my.memo.domain.comment.CommentRepository;
 import com.my.memo.domain.schedule.Schedule;
@@ -11,11 +12,13 @@ import com.my.memo.dto.comment.req.CommentModifyReqDto;
 import com.my.memo.dto.comment.resp.CommentCreateRespDto;
 import com.my.memo.dto.comment.resp.CommentDeleteRespDto;
 import com.my.memo.dto.comment.resp.CommentModifyRespDto;
+import com.my.memo.event.ScheduleCountsChangedEvent;
 import com.my.memo.ex.CustomApiException;
 import com.my.memo.ex.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,12 +31,14 @@ public class CommentService {
     private final ScheduleRepository scheduleRepository;
     private final UserService userService;
     private final ScheduleService scheduleService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
     //댓글 저장
     @Transactional
     @RequireAuthenticatedUser
+    @StatementBudget(6) //요청 유저, 일정, 댓글 insert, 댓글 수 update + ID 할당기 갱신(select/update)
     public CommentCreateRespDto createComment(Long scheduleId, CommentCreateReqDto commentReqDto, Long userId) {
 
         User userPS = userService.findByIdOrFail(userId);
@@ -43,6 +48,8 @@ public class CommentService {
         validateCommentCreate(schedulePS, userPS);
         //코멘트 저장
         Comment commentPS = commentRepository.save(commentReqDto.toEntity(userPS, schedulePS));
+        scheduleRepository.addCommentCnt(schedulePS.getId(), 1);
+        eventPublisher.publishEvent(new ScheduleCountsChangedEvent(schedulePS.getId()));
         return new CommentCreateRespDto(commentPS);
     }
 
@@ -80,18 +87,24 @@ public class CommentService {
     public CommentDeleteRespDto deleteComment(Long scheduleId, Long commentId, Long userId) {
 
         User userPS = userService.findByIdOrFail(userId);
-        Schedule schedulePS = scheduleRepository.findScheduleWithCommentsById(scheduleId)
-                .orElseThrow(() -> new CustomApiException(ErrorCode.SCHEDULE_NOT_FOUND));
+        //일정의 댓글 컬렉션은 로딩하지 않고 존재 여부만 확인
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new CustomApiException(ErrorCode.SCHEDULE_NOT_FOUND);
+        }
         Comment commentPS = findByIdOrFail(commentId);
 
         //해당 스케줄에 달린 댓글이 맞는지 확인
-        commentPS.validateBelongsTo(schedulePS);
+        commentPS.validateBelongsTo(scheduleId);
 
         //관리자가 아니라면 댓글 작성자 본인이여야 함
         commentPS.validateCommentAccess(userPS);
 
-        schedulePS.getCommentList().remove(commentPS);
-        commentRepository.deleteById(commentId);
+        //동시에 같은 댓글을 삭제한 경우 실제로 지운 요청만 댓글 수를 감소
+        if (commentRepository.deleteCommentById(commentId) == 0) {
+            throw new CustomApiException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+        scheduleRepository.addCommentCnt(scheduleId, -1);
+        eventPublisher.publishEvent(new ScheduleCountsChangedEvent(scheduleId));
         log.info("코멘트 삭제 완료: 코멘트 ID {}", commentId);
 
         return new CommentDeleteRespDto(commentId, true);
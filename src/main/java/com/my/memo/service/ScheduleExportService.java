@@ -0,0 +1,274 @@
+package com.my.memo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.my.memo.aop.valid.RequireAuthenticatedUser;
+import com.my.memo.domain.comment.CommentRepository;
+import com.my.memo.domain.comment.dto.CommentExportRow;
+import com.my.memo.domain.schedule.ScheduleRepository;
+import com.my.memo.domain.schedule.dto.ScheduleExportRow;
+import com.my.memo.domain.scheduleUser.ScheduleUserRepository;
+import com.my.memo.domain.scheduleUser.dto.AssigneeExportRow;
+import com.my.memo.dto.schedule.req.ScheduleExportFormat;
+import com.my.memo.dto.schedule.resp.ScheduleExportDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollableResults;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 유저의 일정을 댓글/배정 유저와 함께 NDJSON 또는 CSV로 내보냅니다
+ * <p>
+ * 일정은 전방향 스크롤 조회로 한 행씩 읽고, chunk-size 개씩 모아 댓글/배정 유저를 in 조건 한 번씩으로 묶어 조회한 뒤
+ * 바로 응답에 기록하므로 일정 수와 관계없이 메모리 사용량이 일정합니다
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleExportService {
+
+    private static final DateTimeFormatter CSV_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String CSV_HEADER = "id,content,startAt,endAt,isPublic,weatherOnCreation,createdAt,lastModifiedAt,assignees,comments";
+
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final ScheduleUserRepository scheduleUserRepository;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${schedule.export.fetch-size:500}")
+    private int fetchSize;
+
+    //댓글/배정 유저를 묶어서 조회할 일정 수
+    @Value("${schedule.export.chunk-size:200}")
+    private int chunkSize;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지 확인합니다
+     * <p>
+     * q 값이 0인 코딩은 거부로 보고("gzip;q=0"), gzip이 명시되지 않았으면 와일드카드(*)의 q 값을 따릅니다
+     * q 값을 해석할 수 없으면 압축하지 않습니다
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    /**
+     * 유저를 검증한 뒤, 일정을 읽으면서 바로 기록하는 응답 본문을 반환합니다
+     *
+     * @param gzip true이면 응답을 gzip으로 압축하면서 기록
+     */
+    @RequireAuthenticatedUser
+    public StreamingResponseBody exportUserSchedules(Long userId, ScheduleExportFormat format, boolean gzip) {
+        userService.findByIdOrFail(userId);
+        return out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+            ExportWriter writer = format == ScheduleExportFormat.CSV ? new CsvExportWriter(target) : new NdjsonExportWriter(target, objectMapper);
+            try {
+                int exportedCnt = readOnlyTransactionTemplate.execute(status -> export(userId, writer));
+                writer.finish();
+                if (target instanceof GZIPOutputStream gzipOut) {
+                    gzipOut.finish();
+                }
+                log.info("일정 내보내기 완료: 유저 ID {}, 일정 {}건, 형식 {}", userId, exportedCnt, format);
+            } catch (UncheckedIOException e) {
+                //클라이언트 연결 종료 등 응답 기록 실패
+                throw e.getCause();
+            }
+        };
+    }
+
+    private int export(Long userId, ExportWriter writer) {
+        int exportedCnt = 0;
+        try (ScrollableResults<ScheduleExportRow> rows = scheduleRepository.scrollUserSchedulesForExport(userId, fetchSize)) {
+            List<ScheduleExportRow> chunk = new ArrayList<>(chunkSize);
+            while (rows.next()) {
+                chunk.add(rows.get());
+                if (chunk.size() >= chunkSize) {
+                    exportedCnt += writeChunk(chunk, writer);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                exportedCnt += writeChunk(chunk, writer);
+            }
+        }
+        return exportedCnt;
+    }
+
+    private int writeChunk(List<ScheduleExportRow> chunk, ExportWriter writer) {
+        List<Long> scheduleIds = chunk.stream().map(ScheduleExportRow::getId).toList();
+        Map<Long, List<AssigneeExportRow>> assigneesByScheduleId = scheduleUserRepository.findExportRowsByScheduleIds(scheduleIds).stream()
+                .collect(Collectors.groupingBy(AssigneeExportRow::getScheduleId));
+        Map<Long, List<CommentExportRow>> commentsByScheduleId = commentRepository.findExportRowsByScheduleIds(scheduleIds).stream()
+                .collect(Collectors.groupingBy(CommentExportRow::getScheduleId));
+
+        for (ScheduleExportRow schedule : chunk) {
+            writer.write(new ScheduleExportDto(schedule,
+                    assigneesByScheduleId.getOrDefault(schedule.getId(), List.of()),
+                    commentsByScheduleId.getOrDefault(schedule.getId(), List.of())));
+        }
+        writer.flush();
+        return chunk.size();
+    }
+
+    //트랜잭션 콜백 안에서 사용하므로 IOException은 UncheckedIOException으로 감싸서 전달
+    private interface ExportWriter {
+        void write(ScheduleExportDto schedule);
+
+        void flush();
+
+        void finish();
+    }
+
+    private static class NdjsonExportWriter implements ExportWriter {
+
+        private final SequenceWriter writer;
+
+        private NdjsonExportWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out);
+        }
+
+        @Override
+        public void write(ScheduleExportDto schedule) {
+            try {
+                writer.write(schedule);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() {
+            flush();
+        }
+    }
+
+    private static class CsvExportWriter implements ExportWriter {
+
+        private final Writer writer;
+
+        private CsvExportWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            //엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ScheduleExportDto schedule) {
+            String assignees = schedule.getAssignees().stream()
+                    .map(assignee -> assignee.getName() + "(" + assignee.getId() + ")")
+                    .collect(Collectors.joining(";"));
+            String comments = schedule.getComments().stream()
+                    .map(comment -> "[" + format(comment.getCreatedAt()) + "] " + comment.getAuthorName() + ": " + comment.getContent())
+                    .collect(Collectors.joining("\n"));
+            try {
+                writer.write(String.join(",",
+                        String.valueOf(schedule.getId()),
+                        escape(schedule.getContent()),
+                        format(schedule.getStartAt()),
+                        format(schedule.getEndAt()),
+                        String.valueOf(schedule.getIsPublic()),
+                        escape(schedule.getWeatherOnCreation()),
+                        format(schedule.getCreatedAt()),
+                        format(schedule.getLastModifiedAt()),
+                        escape(assignees),
+                        escape(comments)));
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() {
+            flush();
+        }
+
+        private String format(LocalDateTime dateTime) {
+            return dateTime == null ? "" : dateTime.format(CSV_DATE_FORMATTER);
+        }
+
+        //RFC 4180 규칙으로 이스케이프하고, 스프레드시트 수식으로 해석될 수 있는 값은 앞에 '를 붙임
+        private String escape(String value) {
+            if (value == null || value.isEmpty()) {
+                return "";
+            }
+            String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+            if (safe.contains(",") || safe.contains("\"") || safe.contains("\n") || safe.contains("\r")) {
+                return "\"" + safe.replace("\"", "\"\"") + "\"";
+            }
+            return safe;
+        }
+    }
+}
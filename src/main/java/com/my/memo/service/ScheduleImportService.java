@@ -0,0 +1,189 @@
+package com.my.memo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.my.memo.aop.valid.RequireAuthenticatedUser;
+import com.my.memo.client.weather.WeatherClient;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.schedule.ScheduleRepository;
+import com.my.memo.domain.user.User;
+import com.my.memo.domain.user.UserRepository;
+import com.my.memo.dto.schedule.req.ScheduleCreateReqDto;
+import com.my.memo.dto.schedule.resp.ScheduleImportResultDto;
+import com.my.memo.dto.schedule.resp.ScheduleImportSummaryDto;
+import com.my.memo.event.SchedulesImportedEvent;
+import com.my.memo.util.CustomUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일정 대량 가져오기(import)를 처리합니다
+ * <p>
+ * 요청 본문(JSON 배열 또는 NDJSON)을 전부 메모리에 올리지 않고 항목 단위로 읽으며, 항목마다 유효성 검사 후
+ * batch-size 개씩 별도 트랜잭션으로 저장합니다 (JDBC 배치 insert)
+ * 결과는 항목별로 NDJSON 한 줄씩 응답에 바로 기록하며, 저장된 배치는 이후 배치가 실패해도 유지됩니다
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleImportService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final WeatherClient weatherClient;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final Clock clock;
+    private TransactionTemplate transactionTemplate;
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${schedule.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${schedule.import.max-items:100000}")
+    private int maxItems;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 가져오기를 요청한 유저를 검증한 뒤, 본문을 읽어 저장하면서 결과를 기록하는 응답 본문을 반환합니다
+     *
+     * @param body   JSON 배열 또는 NDJSON 형식의 {@link ScheduleCreateReqDto} 목록
+     * @param userId 일정을 생성할 유저 ID
+     */
+    @RequireAuthenticatedUser
+    public StreamingResponseBody importSchedules(InputStream body, Long userId) {
+        userService.findByIdOrFail(userId);
+        return out -> importSchedules(body, out, userId);
+    }
+
+    private void importSchedules(InputStream body, OutputStream out, Long userId) throws IOException {
+        //가져오는 일정은 모두 같은 날 생성되므로 날씨는 한 번만 조회 (스냅샷이 없으면 배치 커밋 후 날씨 보강 큐에 적재)
+        String date = CustomUtil.localDateTimeToFormattedString(LocalDateTime.now(clock));
+        String weather = weatherClient.findWeather(date).orElse(Schedule.WEATHER_PENDING);
+        String pendingWeatherDate = Schedule.WEATHER_PENDING.equals(weather) ? date : null;
+        SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out);
+        ImportProgress progress = new ImportProgress();
+        List<ImportItem> batch = new ArrayList<>(batchSize);
+
+        try (MappingIterator<ScheduleCreateReqDto> items = objectMapper.readerFor(ScheduleCreateReqDto.class).readValues(body)) {
+            while (items.hasNextValue()) {
+                int index = progress.total;
+                if (index >= maxItems) {
+                    progress.abort(writer, index, "한 번에 최대 " + maxItems + "건까지 가져올 수 있습니다");
+                    break;
+                }
+                ScheduleCreateReqDto item = items.nextValue();
+                progress.total++;
+
+                Map<String, String> errors = validate(item);
+                if (!errors.isEmpty()) {
+                    progress.failed++;
+                    writer.write(ScheduleImportResultDto.invalid(index, errors));
+                    continue;
+                }
+                batch.add(new ImportItem(index, item));
+                if (batch.size() >= batchSize) {
+                    save(batch, userId, weather, pendingWeatherDate, writer, progress);
+                    batch.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("일정 가져오기 본문 파싱 실패: 유저 ID {}, 항목 {}: {}", userId, progress.total, e.getOriginalMessage());
+            progress.abort(writer, progress.total, "요청 본문을 읽을 수 없습니다: " + e.getOriginalMessage());
+        }
+
+        if (!batch.isEmpty()) {
+            save(batch, userId, weather, pendingWeatherDate, writer, progress);
+        }
+        writer.write(new ScheduleImportSummaryDto(progress.total, progress.created, progress.failed, progress.aborted));
+        writer.flush();
+        log.info("일정 가져오기 완료: 유저 ID {}, 전체 {}건, 생성 {}건, 실패 {}건", userId, progress.total, progress.created, progress.failed);
+    }
+
+    private void save(List<ImportItem> batch, Long userId, String weather, String pendingWeatherDate,
+                      SequenceWriter writer, ImportProgress progress) throws IOException {
+        List<Long> scheduleIds;
+        try {
+            scheduleIds = transactionTemplate.execute(status -> {
+                User user = userRepository.getReferenceById(userId);
+                List<Schedule> scheduleList = batch.stream()
+                        .map(item -> item.request().toEntity(user, weather))
+                        .toList();
+                List<Long> savedIds = scheduleRepository.saveAll(scheduleList).stream().map(Schedule::getId).toList();
+                eventPublisher.publishEvent(new SchedulesImportedEvent(userId, savedIds, pendingWeatherDate));
+                return savedIds;
+            });
+        } catch (Exception e) {
+            log.warn("일정 가져오기 배치 저장 실패: 유저 ID {}, 항목 {}~{}: {}", userId,
+                    batch.get(0).index(), batch.get(batch.size() - 1).index(), e.getMessage());
+            progress.failed += batch.size();
+            for (ImportItem item : batch) {
+                writer.write(ScheduleImportResultDto.failed(item.index(), "일정을 저장하지 못했습니다"));
+            }
+            writer.flush();
+            return;
+        }
+
+        progress.created += batch.size();
+        for (int i = 0; i < batch.size(); i++) {
+            writer.write(ScheduleImportResultDto.created(batch.get(i).index(), scheduleIds.get(i)));
+        }
+        //배치가 커밋될 때마다 클라이언트로 결과 전송
+        writer.flush();
+    }
+
+    private Map<String, String> validate(ScheduleCreateReqDto item) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (item == null) {
+            errors.put("item", "일정 정보가 비어 있습니다");
+            return errors;
+        }
+        for (ConstraintViolation<ScheduleCreateReqDto> violation : validator.validate(item)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    private record ImportItem(int index, ScheduleCreateReqDto request) {
+    }
+
+    private static class ImportProgress {
+        private int total;
+        private int created;
+        private int failed;
+        private boolean aborted;
+
+        private void abort(SequenceWriter writer, int index, String message) throws IOException {
+            aborted = true;
+            writer.write(ScheduleImportResultDto.aborted(index, message));
+        }
+    }
+}
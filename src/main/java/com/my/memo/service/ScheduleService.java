@@ -1,36 +1,50 @@
 package com.my.memo.service;
 
 import com.my.memo.aop.valid.RequireAuthenticatedUser;
-import com.my.memo.client.weather.WeatherClient;
+import com.my.memo.aop.valid.StatementBudget;
+import com.my.memo.cache.PublicFeedCache;
+import com.my.memo.cache.ScheduleCountCache;
 import com.my.memo.domain.comment.Comment;
 import com.my.memo.domain.comment.CommentRepository;
 import com.my.memo.domain.schedule.Schedule;
 import com.my.memo.domain.schedule.ScheduleRepository;
+import com.my.memo.domain.schedule.dto.ScheduleCursor;
 import com.my.memo.domain.schedule.dto.ScheduleWithCommentAndUserCountsDto;
 import com.my.memo.domain.scheduleUser.ScheduleUser;
 import com.my.memo.domain.scheduleUser.ScheduleUserRepository;
 import com.my.memo.domain.user.User;
-import com.my.memo.domain.user.UserRepository;
 import com.my.memo.dto.schedule.req.PublicScheduleFilter;
 import com.my.memo.dto.schedule.req.ScheduleCreateReqDto;
 import com.my.memo.dto.schedule.req.ScheduleModifyReqDto;
 import com.my.memo.dto.schedule.req.UserScheduleFilter;
 import com.my.memo.dto.schedule.resp.*;
+import com.my.memo.event.ScheduleChangedEvent;
+import com.my.memo.event.ScheduleWeatherPendingEvent;
 import com.my.memo.ex.CustomApiException;
 import com.my.memo.ex.ErrorCode;
+import com.my.memo.search.ScheduleSearchCandidates;
+import com.my.memo.search.ScheduleSearchIndex;
 import com.my.memo.util.CustomUtil;
+import com.my.memo.util.SingleFlight;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 
 @RequiredArgsConstructor
@@ -42,19 +56,56 @@ public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final CommentRepository commentRepository;
     private final ScheduleUserRepository scheduleUserRepository;
-    private final UserRepository userRepository;
-    private final WeatherClient weatherClient;
     private final Clock clock;
     private final UserService userService;
+    private final ScheduleCountCache scheduleCountCache;
+    private final PublicFeedCache publicFeedCache;
+    private final ScheduleSearchIndex scheduleSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final SingleFlight<String, ScheduleDetail> scheduleDetailFlight = new SingleFlight<>();
+    private final SingleFlight<String, UserScheduleListRespDto> userScheduleFlight = new SingleFlight<>();
+    private TransactionTemplate readOnlyTransactionTemplate;
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
 
+    @PostConstruct
+    public void init() {
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /*
+     * 조회 메서드는 트랜잭션 없이 시작하고, 실제 조회는 singleFlight 로 합쳐진 한 번의 실행 안에서만 트랜잭션(커넥션)을 사용합니다
+     * 대기 중인 요청이 커넥션을 점유하지 않도록 하기 위함입니다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PublicScheduleListRespDto findPublicSchedulesWithFilters(PublicScheduleFilter publicScheduleFilter) {
+        //필터 기준 페이지 캐시에서 조회 (미스 시 같은 필터의 동시 요청은 한 번만 조회)
+        return publicFeedCache.get(publicScheduleFilter,
+                () -> readOnlyTransactionTemplate.execute(status -> loadPublicSchedules(publicScheduleFilter)));
+    }
 
-        List<ScheduleWithCommentAndUserCountsDto> scheduleList = scheduleRepository.findPublicSchedulesWithFilters(publicScheduleFilter);
+    private PublicScheduleListRespDto loadPublicSchedules(PublicScheduleFilter publicScheduleFilter) {
 
-        int totalPublicSchedules = scheduleRepository.countPublicSchedules();
-        int totalPages = (int) Math.ceil((double) totalPublicSchedules / publicScheduleFilter.getLimit());
+        //작성자명/내용 검색어가 있으면 검색 색인으로 후보 일정을 먼저 좁힘
+        ScheduleSearchCandidates candidates = scheduleSearchIndex.search(publicScheduleFilter.getQ(), publicScheduleFilter.getAuthorName());
+        boolean skipTotals = Boolean.TRUE.equals(publicScheduleFilter.getSkipTotals());
+        if (candidates.isNoMatch()) {
+            return new PublicScheduleListRespDto(List.of(), false, skipTotals ? null : 0, skipTotals ? null : 0,
+                    publicScheduleFilter.getPage().intValue(), null);
+        }
+
+        List<ScheduleWithCommentAndUserCountsDto> scheduleList = scheduleRepository.findPublicSchedulesWithFilters(publicScheduleFilter, candidates);
+
+        //전체 개수는 필터 기준으로 캐시에서 조회 (skipTotals면 생략)
+        Integer totalPublicSchedules = null;
+        Integer totalPages = null;
+        if (!skipTotals) {
+            totalPublicSchedules = scheduleCountCache.getPublicCount(publicScheduleFilter,
+                    () -> scheduleRepository.countPublicSchedulesWithFilters(publicScheduleFilter, candidates));
+            totalPages = (int) Math.ceil((double) totalPublicSchedules / publicScheduleFilter.getLimit());
+        }
         int currentPage = publicScheduleFilter.getPage().intValue();
 
         boolean hasNextPage = scheduleList.size() > publicScheduleFilter.getLimit();
@@ -63,7 +114,16 @@ public class ScheduleService {
             scheduleList = scheduleList.subList(0, publicScheduleFilter.getLimit().intValue());
         }
 
-        return new PublicScheduleListRespDto(scheduleList, hasNextPage, totalPublicSchedules, totalPages, currentPage);
+        return new PublicScheduleListRespDto(scheduleList, hasNextPage, totalPublicSchedules, totalPages, currentPage, nextCursor(scheduleList, hasNextPage));
+    }
+
+    //다음 페이지가 있으면 현재 페이지 마지막 일정으로 커서 생성
+    private String nextCursor(List<ScheduleWithCommentAndUserCountsDto> scheduleList, boolean hasNextPage) {
+        if (!hasNextPage || scheduleList.isEmpty()) {
+            return null;
+        }
+        ScheduleWithCommentAndUserCountsDto last = scheduleList.get(scheduleList.size() - 1);
+        return new ScheduleCursor(last.getLastModifiedAt(), last.getId()).encode();
     }
 
 
@@ -76,20 +136,23 @@ public class ScheduleService {
         userService.findByIdOrFail(userId);
         log.info("일정 삭제 시도: 관리자 ID {}", userId);
 
-        //해당 일정 조회
-        Schedule schedulePS = scheduleRepository.findScheduleWithCommentsById(scheduleId).orElseThrow(
-                () -> new CustomApiException(ErrorCode.SCHEDULE_NOT_FOUND));
-        //작성자 조회
-        User userPS = userRepository.findUserWithSchedulesById(schedulePS.getUser().getId()).orElseThrow(
-                () -> new CustomApiException(ErrorCode.AUTHOR_NOT_FOUND));
+        //해당 일정 조회 (댓글 컬렉션과 작성자의 일정 목록은 로딩하지 않음)
+        Schedule schedulePS = findByIdOrFail(scheduleId);
+        Long ownerId = schedulePS.getUser().getId();
 
         //스케줄에 배정된 유저 리스트 삭제
         int deletedAssignedUserCnt = scheduleUserRepository.deleteByScheduleId(scheduleId);
         log.info("일정 ID {}에 배정된 유저 삭제 완료: 삭제된 개수 {}", scheduleId, deletedAssignedUserCnt);
 
-        //해당 스케줄 삭제
-        userPS.getScheduleList().remove(schedulePS);
-        scheduleRepository.deleteById(scheduleId);
+        //스케줄에 달린 댓글 삭제
+        int deletedCommentCnt = commentRepository.deleteByScheduleId(scheduleId);
+        log.info("일정 ID {}에 달린 댓글 삭제 완료: 삭제된 개수 {}", scheduleId, deletedCommentCnt);
+
+        //해당 스케줄 삭제 (동시에 삭제된 경우 이벤트 발행 없이 롤백)
+        if (scheduleRepository.deleteScheduleById(scheduleId) == 0) {
+            throw new CustomApiException(ErrorCode.SCHEDULE_NOT_FOUND);
+        }
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.DELETED, scheduleId, ownerId));
 
         return new ScheduleDeleteRespDto(scheduleId, true);
     }
@@ -106,19 +169,37 @@ public class ScheduleService {
         Schedule schedulePS = findByIdOrFail(scheduleId);
         // 요청한 필드에 대해 수정
         schedulePS.modify(scheduleModifyReqDto);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.UPDATED, scheduleId, schedulePS.getUser().getId()));
 
         return new ScheduleModifyRespDto(schedulePS);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @RequireAuthenticatedUser
     public UserScheduleListRespDto findUserSchedules(UserScheduleFilter userScheduleFilter, Long userId) {
+        //같은 유저의 같은 필터 동시 요청은 한 번만 조회
+        String key = userId + "|" + Arrays.stream(new Object[]{userScheduleFilter.getPage(), userScheduleFilter.getLimit(),
+                        userScheduleFilter.getCursor(), userScheduleFilter.getSkipTotals(), userScheduleFilter.getModifiedAt(),
+                        userScheduleFilter.getStartModifiedAt(), userScheduleFilter.getEndModifiedAt()})
+                .map(value -> value == null ? "" : value.toString().trim())
+                .collect(Collectors.joining(","));
+        return userScheduleFlight.execute(key,
+                () -> readOnlyTransactionTemplate.execute(status -> loadUserSchedules(userScheduleFilter, userId)));
+    }
+
+    private UserScheduleListRespDto loadUserSchedules(UserScheduleFilter userScheduleFilter, Long userId) {
 
         User userPS = userService.findByIdOrFail(userId);
 
         List<ScheduleWithCommentAndUserCountsDto> scheduleList = scheduleRepository.findUserSchedulesWithFilters(userPS, userScheduleFilter);
 
-        int totalUserSchedules = scheduleRepository.countUserSchedules(userId);
-        int totalPages = (int) Math.ceil((double) totalUserSchedules / userScheduleFilter.getLimit());
+        Integer totalUserSchedules = null;
+        Integer totalPages = null;
+        if (!Boolean.TRUE.equals(userScheduleFilter.getSkipTotals())) {
+            totalUserSchedules = scheduleCountCache.getUserCount(userId, userScheduleFilter,
+                    () -> scheduleRepository.countUserSchedulesWithFilters(userPS, userScheduleFilter));
+            totalPages = (int) Math.ceil((double) totalUserSchedules / userScheduleFilter.getLimit());
+        }
         int currentPage = userScheduleFilter.getPage().intValue();
 
         boolean hasNextPage = scheduleList.size() > userScheduleFilter.getLimit();
@@ -129,27 +210,46 @@ public class ScheduleService {
         }
 
         log.info("유저 전체 일정 조회 완료: 유저 ID {}", userPS.getId());
-        return new UserScheduleListRespDto(scheduleList, hasNextPage, userPS, totalUserSchedules, totalPages, currentPage);
+        return new UserScheduleListRespDto(scheduleList, hasNextPage, userPS, totalUserSchedules, totalPages, currentPage, nextCursor(scheduleList, hasNextPage));
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @RequireAuthenticatedUser
+    @StatementBudget(6) //요청 유저, 일정, 댓글 페이지, 댓글 수, 배정 유저, 작성자
     public ScheduleRespDto findScheduleById(Long scheduleId, int page, int limit, Long userId) {
 
         User userPS = userService.findByIdOrFail(userId);
-        Schedule schedulePS = findByIdOrFail(scheduleId);
 
-        validateScheduleAccess(schedulePS, userPS);
+        //같은 일정/댓글 페이지의 동시 요청은 한 번만 조회하고, 접근 권한은 요청자마다 검사
+        ScheduleDetail detail = scheduleDetailFlight.execute(scheduleId + "|" + page + "|" + limit,
+                () -> readOnlyTransactionTemplate.execute(status -> loadScheduleDetail(scheduleId, page, limit)));
+
+        validateScheduleAccess(detail, userPS);
+        return detail.scheduleRespDto();
+    }
+
+    private ScheduleDetail loadScheduleDetail(Long scheduleId, int page, int limit) {
+        Schedule schedulePS = findByIdOrFail(scheduleId);
+        //탈퇴 처리 중인 유저의 일정은 삭제 작업이 끝나기 전에도 없는 일정으로 취급 (응답에 작성자 이름이 필요해 어차피 유저를 읽음)
+        if (schedulePS.getUser().isDeleted()) {
+            throw new CustomApiException(ErrorCode.SCHEDULE_NOT_FOUND);
+        }
 
         PageRequest pageRequest = PageRequest.of(page, limit, Sort.by(Sort.Direction.ASC, "createdAt"));
         Page<Comment> commentPage = commentRepository.findCommentsWithUserBySchedule(schedulePS, pageRequest);
         List<ScheduleUser> assignedUserList = scheduleUserRepository.findScheduleUserBySchedule(schedulePS);
 
-        return new ScheduleRespDto(schedulePS, commentPage, assignedUserList);
+        return new ScheduleDetail(new ScheduleRespDto(schedulePS, commentPage, assignedUserList), schedulePS.isPublic(), schedulePS.getUser().getId());
+    }
+
+    //여러 요청이 공유하는 일정 상세 조회 결과와 권한 검사에 필요한 값
+    private record ScheduleDetail(ScheduleRespDto scheduleRespDto, boolean isPublic, Long ownerId) {
     }
 
-    private void validateScheduleAccess(Schedule schedule, User user) {
-        if (!schedule.isPublic()) {
-            schedule.validateScheduleAccess(user);
+    //비공개 일정은 관리자 또는 작성자만 조회 가능 (Schedule.validateScheduleAccess 와 같은 규칙)
+    private void validateScheduleAccess(ScheduleDetail detail, User user) {
+        if (!detail.isPublic() && !user.isAdmin() && !user.getId().equals(detail.ownerId())) {
+            throw new CustomApiException(ErrorCode.FORBIDDEN_SCHEDULE_ACCESS);
         }
     }
 
@@ -158,8 +258,10 @@ public class ScheduleService {
     public ScheduleCreateRespDto createSchedule(ScheduleCreateReqDto scheduleCreateReqDto, Long userId) {
 
         User userPS = userService.findByIdOrFail(userId);
-        String todayWeather = weatherClient.getTodayWeather(CustomUtil.localDateTimeToFormattedString(LocalDateTime.now(clock)));
-        Schedule schedulePS = scheduleRepository.save(scheduleCreateReqDto.toEntity(userPS, todayWeather));
+        //날씨 정보는 커밋 이후 백그라운드에서 채움
+        Schedule schedulePS = scheduleRepository.save(scheduleCreateReqDto.toEntity(userPS, Schedule.WEATHER_PENDING));
+        eventPublisher.publishEvent(new ScheduleChangedEvent(ScheduleChangedEvent.Type.CREATED, schedulePS.getId(), userPS.getId()));
+        eventPublisher.publishEvent(new ScheduleWeatherPendingEvent(schedulePS.getId(), CustomUtil.localDateTimeToFormattedString(LocalDateTime.now(clock))));
 
         log.info("일정 저장 완료 : 일정 ID {}, 유저 ID {}", schedulePS.getId(), userPS.getId());
         return new ScheduleCreateRespDto(schedulePS);
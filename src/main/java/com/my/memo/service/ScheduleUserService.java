@@ -2,7 +2,7 @@ package com.my.memo.service;
 
 import com.my.memo.aop.valid.RequireAuthenticatedUser;
 import com.my.memo.domain.schedule.Schedule;
-import com.my.memo.domain.scheduleUser.ScheduleUser;
+import com.my.memo.domain.schedule.ScheduleRepository;
 import com.my.memo.domain.scheduleUser.ScheduleUserRepository;
 import com.my.memo.domain.user.User;
 import com.my.memo.domain.user.UserRepository;
@@ -10,16 +10,20 @@ import com.my.memo.dto.scheduleUser.req.AssignedUserDeleteReqDto;
 import com.my.memo.dto.scheduleUser.req.UserAssignReqDto;
 import com.my.memo.dto.scheduleUser.resp.AssignedUserDeleteRespDto;
 import com.my.memo.dto.scheduleUser.resp.UserAssignRespDto;
+import com.my.memo.event.ScheduleCountsChangedEvent;
 import com.my.memo.ex.CustomApiException;
 import com.my.memo.ex.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -29,8 +33,11 @@ public class ScheduleUserService {
     private final Logger log = LoggerFactory.getLogger(this.getClass());
     private final UserRepository userRepository;
     private final ScheduleUserRepository scheduleUserRepository;
+    private final ScheduleRepository scheduleRepository;
     private final UserService userService;
     private final ScheduleService scheduleService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
 
     @Transactional
@@ -51,6 +58,8 @@ public class ScheduleUserService {
         int deletedCnt = scheduleUserRepository.deleteByUserIdsAndSchedule(
                 userIdListToDelete,
                 schedulePS);
+        scheduleRepository.addAssignedUserCnt(schedulePS.getId(), -deletedCnt);
+        eventPublisher.publishEvent(new ScheduleCountsChangedEvent(schedulePS.getId()));
 
         return new AssignedUserDeleteRespDto(true, schedulePS, deletedCnt);
     }
@@ -63,44 +72,33 @@ public class ScheduleUserService {
         Schedule schedulePS = scheduleService.findByIdOrFail(scheduleId);
         //일정 접근 권한 검사
         schedulePS.validateScheduleAccess(userPS);
-        //최대 인원 검사
-        validateScheduleUserLimit(schedulePS, userAssignReqDto);
 
         List<Long> userIdListToAssign = userAssignReqDto.getUserIdList().stream()
                 .map(UserAssignReqDto.UserDto::getUserId)
+                .distinct()
                 .toList();
 
-        //이미 일정에 배정된 유저인지 검사
-        Set<Long> assignedUserIdSet = scheduleUserRepository.getAssignedUserIdsBySchedule(schedulePS);
-        validateUsersNotAlreadyAssigned(assignedUserIdSet, userIdListToAssign);
+        //최대 인원 검사 + 배정 인원 수 증가를 하나의 조건부 update로 처리
+        if (scheduleRepository.reserveAssignedUserSlots(schedulePS.getId(), userIdListToAssign.size(), Schedule.MAX_ASSIGNED_USERS) == 0) {
+            throw new CustomApiException(ErrorCode.SCHEDULE_USER_LIMIT_EXCEEDED);
+        }
 
-        //유저 목록 조회
-        List<User> userListToAssign = userRepository.findAllById(userIdListToAssign);
-        if (userListToAssign.size() != userIdListToAssign.size()) {
+        //유저 할당 (한 번의 insert, 중복 배정은 유니크 제약 위반으로 감지)
+        int insertedCnt;
+        try {
+            insertedCnt = scheduleUserRepository.insertAll(schedulePS.getId(), userIdListToAssign, LocalDateTime.now(clock));
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomApiException(ErrorCode.USER_ALREADY_ASSIGNED_TO_SCHEDULE);
+        }
+        if (insertedCnt != userIdListToAssign.size()) {
             throw new CustomApiException(ErrorCode.USER_NOT_EXIST);
         }
-        //유저 할당
-        userListToAssign.forEach(userToAssign -> scheduleUserRepository.save(new ScheduleUser(userToAssign, schedulePS)));
-        log.info("유저 ID {}: 일정 ID {}에 유저 ID {}를 할당", userPS.getId(), schedulePS.getId(), userIdListToAssign);
-
-        return new UserAssignRespDto(schedulePS, userListToAssign);
-    }
 
-    //최대 인원으로 배정되었는지 검사
-    private void validateScheduleUserLimit(Schedule schedule, UserAssignReqDto userAssignReqDto) {
-        int newAssignUserCnt = userAssignReqDto.getUserIdList().size();
-        int currentAssignUserCnt = scheduleUserRepository.countScheduleUserBySchedule(schedule);
-
-        if (currentAssignUserCnt + newAssignUserCnt > 5)
-            throw new CustomApiException(ErrorCode.SCHEDULE_USER_LIMIT_EXCEEDED);
-    }
+        List<User> assignedUserList = userRepository.findAllById(userIdListToAssign);
+        eventPublisher.publishEvent(new ScheduleCountsChangedEvent(schedulePS.getId()));
+        log.info("유저 ID {}: 일정 ID {}에 유저 ID {}를 할당", userPS.getId(), schedulePS.getId(), userIdListToAssign);
 
-    private void validateUsersNotAlreadyAssigned(Set<Long> assignedUserIdSet, List<Long> userIdListToAssign) {
-        for (Long userIdToAssign : userIdListToAssign) {
-            if (assignedUserIdSet.contains(userIdToAssign)) {
-                throw new CustomApiException(ErrorCode.USER_ALREADY_ASSIGNED_TO_SCHEDULE);
-            }
-        }
+        return new UserAssignRespDto(schedulePS, assignedUserList);
     }
 
 }
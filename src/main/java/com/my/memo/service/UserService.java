@@ -1,23 +1,29 @@
 package com.my.memo.service;
 
 import com.my.memo.aop.valid.RequireAuthenticatedUser;
+import com.my.memo.config.auth.PasswordHasher;
 import com.my.memo.config.auth.jwt.JwtProvider;
-import com.my.memo.domain.comment.CommentRepository;
-import com.my.memo.domain.schedule.ScheduleRepository;
-import com.my.memo.domain.scheduleUser.ScheduleUserRepository;
+import com.my.memo.domain.accountDeletion.AccountDeletionJob;
+import com.my.memo.domain.accountDeletion.AccountDeletionJobRepository;
 import com.my.memo.domain.user.User;
 import com.my.memo.domain.user.UserRepository;
 import com.my.memo.dto.user.req.JoinReqDto;
 import com.my.memo.dto.user.req.LoginReqDto;
 import com.my.memo.dto.user.req.UserModifyReqDto;
 import com.my.memo.dto.user.resp.*;
+import com.my.memo.event.UserChangedEvent;
 import com.my.memo.ex.CustomApiException;
 import com.my.memo.ex.ErrorCode;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 @Service
@@ -27,36 +33,50 @@ public class UserService {
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
     private final UserRepository userRepository;
-    private final CommentRepository commentRepository;
-    private final ScheduleUserRepository scheduleUserRepository;
-    private final ScheduleRepository scheduleRepository;
+    private final AccountDeletionJobRepository accountDeletionJobRepository;
     private final JwtProvider jwtProvider;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
 
 
+    /**
+     * 회원 탈퇴 요청을 접수합니다
+     * <p>
+     * 유저를 즉시 탈퇴 상태로 표시하고 계정 삭제 작업만 등록합니다
+     * 배정 기록/댓글/일정 삭제는 {@link com.my.memo.job.AccountDeletionWorker}가 청크 단위로 나누어 처리합니다
+     */
     @Transactional
     @RequireAuthenticatedUser
     public UserDeleteRespDto deleteUser(Long userId) {
+        User userPS = findByIdOrFail(userId);
+        userPS.markDeleted();
 
-        User userPS = userRepository.findUserWithSchedulesById(userId).orElseThrow(
-                () -> new CustomApiException(ErrorCode.USER_NOT_FOUND)
-        );
-
-        int deletedAssignedCnt = scheduleUserRepository.deleteByUserId(userId, userPS.getScheduleList());
-        log.info("유저 ID의 {} 배정 기록 삭제: 삭제된 개수 {}", userPS.getId(), deletedAssignedCnt);
-
-        int deletedCommentCnt = commentRepository.deleteByUserId(userId);
-        log.info("유저 ID {} 가 작성한 코멘트 삭제: 삭제된 개수 {}", userPS.getId(), deletedCommentCnt);
-
-        int deletedScheduleCommentCnt = commentRepository.deleteBySchedules(userPS.getScheduleList());
-        log.info("유저 ID {} 가 생성한 일정에 달린 모든 코멘트 삭제: 삭제된 개수 {}", userId, deletedScheduleCommentCnt);
-
-        int deletedScheduleCnt = scheduleRepository.deleteByUserId(userId);
-        log.info("해당 유저 ID {} 일정 삭제: 삭제된 개수 {}", userPS.getId(), deletedScheduleCnt);
-
-        userRepository.deleteById(userId);
+        if (accountDeletionJobRepository.findByUserId(userId).isEmpty()) {
+            accountDeletionJobRepository.save(new AccountDeletionJob(userId));
+        }
+        log.info("회원 탈퇴 접수: 유저 ID {}", userId);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.DELETED, userId));
         return new UserDeleteRespDto(true, userId);
     }
 
+    public AccountDeletionRespDto getAccountDeletion(Long userId) {
+        AccountDeletionJob jobPS = accountDeletionJobRepository.findByUserId(userId).orElseThrow(
+                () -> new CustomApiException(ErrorCode.ACCOUNT_DELETION_JOB_NOT_FOUND)
+        );
+        return new AccountDeletionRespDto(jobPS);
+    }
+
     @RequireAuthenticatedUser
     public UserRespDto getUserInfo(Long userId) {
         User userPS = findByIdOrFail(userId);
@@ -64,40 +84,89 @@ public class UserService {
     }
 
 
-    @Transactional
+    /**
+     * 유저 정보를 수정합니다
+     * <p>
+     * 로그인과 같이 비밀번호 해싱은 커넥션을 잡지 않도록 트랜잭션 밖에서 먼저 수행하고, 검증과 수정만 트랜잭션에서 실행합니다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @RequireAuthenticatedUser
     public UserModifyRespDto updateUser(UserModifyReqDto userModifyReqDto, Long userId) {
-        User userPS = findByIdOrFail(userId);
-        userPS.validateEmailIfChanged(userModifyReqDto.getEmail(), userRepository);
-        userPS.modify(userModifyReqDto);
-        return new UserModifyRespDto(userPS);
+        String encodedPassword = userModifyReqDto.getPassword() != null ? passwordHasher.encode(userModifyReqDto.getPassword()) : null;
+        return transactionTemplate.execute(status -> {
+            User userPS = findByIdOrFail(userId);
+            userPS.validateEmailIfChanged(userModifyReqDto.getEmail(), userRepository);
+            userPS.modify(userModifyReqDto, encodedPassword);
+            eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.UPDATED, userId));
+            return new UserModifyRespDto(userPS);
+        });
     }
 
 
-    @Transactional
+    /**
+     * 회원 가입합니다
+     * <p>
+     * 중복 이메일이면 해싱 전에 거절하고, 해싱은 트랜잭션 밖에서 수행합니다
+     * 검사와 저장 사이에 같은 이메일로 가입하는 경우는 users.email 유니크 제약으로 막습니다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public JoinRespDto join(JoinReqDto joinReqDto) {
         //이메일 중복 검사
-        if (userRepository.existsUserByEmail(joinReqDto.getEmail())) {
+        if (Boolean.TRUE.equals(readOnlyTransactionTemplate.execute(status -> userRepository.existsUserByEmail(joinReqDto.getEmail())))) {
             throw new CustomApiException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
-        User userPS = userRepository.save(joinReqDto.toEntity());
+        String encodedPassword = passwordHasher.encode(joinReqDto.getPassword());
+        User userPS = transactionTemplate.execute(status -> {
+            User saved = userRepository.save(joinReqDto.toEntity(encodedPassword));
+            eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.CREATED, saved.getId()));
+            return saved;
+        });
         log.info("회원가입 완료: 유저 ID {}", userPS.getId());
         return new JoinRespDto(userPS);
     }
 
 
+    /**
+     * 로그인합니다
+     * <p>
+     * BCrypt 검증은 해싱 스레드 풀에서 최대 수 초까지 기다릴 수 있으므로 커넥션을 잡지 않도록 트랜잭션 밖에서 수행합니다
+     * 유저 조회와 재해싱 결과 저장만 각각 짧은 트랜잭션으로 실행합니다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginRespDto login(LoginReqDto loginReqDto) {
-        User userPS = userRepository.findUserByEmail(loginReqDto.getEmail()).orElseThrow(
-                () -> new CustomApiException(ErrorCode.INVALID_EMAIL)
-        );
-        // 비밀번호 검증
-        userPS.validatePassword(loginReqDto.getPassword());
-        String jwt = jwtProvider.create(userPS);
-        return new LoginRespDto(userPS, jwt);
+        User user = readOnlyTransactionTemplate.execute(status -> userRepository.findUserByEmail(loginReqDto.getEmail())
+                .filter(userPS -> !userPS.isDeleted())
+                .orElseThrow(() -> new CustomApiException(ErrorCode.INVALID_EMAIL)));
+        // 비밀번호 검증 (해싱 전용 스레드 풀에서 수행)
+        if (!passwordHasher.matches(loginReqDto.getPassword(), user.getPassword())) {
+            throw new CustomApiException(ErrorCode.INVALID_PASSWORD);
+        }
+        rehashIfNeeded(user, loginReqDto.getPassword());
+        String jwt = jwtProvider.create(user);
+        return new LoginRespDto(user, jwt);
+    }
+
+    //설정된 cost보다 낮은 해시는 평문을 알고 있는 로그인 성공 시점에 재해싱
+    private void rehashIfNeeded(User user, String plainTextPassword) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            String encodedPassword = passwordHasher.encode(plainTextPassword);
+            Integer updatedCnt = transactionTemplate.execute(status ->
+                    userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), encodedPassword));
+            if (updatedCnt != null && updatedCnt == 1) {
+                log.info("비밀번호 재해싱 완료: 유저 ID {}", user.getId());
+            }
+        } catch (CustomApiException e) {
+            //재해싱은 다음 로그인 때 다시 시도하므로 로그인 자체는 실패시키지 않음
+            log.warn("비밀번호 재해싱 생략: 유저 ID {}", user.getId());
+        }
     }
 
     public User findByIdOrFail(Long userId) {
         return userRepository.findById(userId)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> {
                     log.warn("존재하지 않는 유저 접근 시도: ID {}", userId);
                     return new CustomApiException(ErrorCode.USER_NOT_FOUND);
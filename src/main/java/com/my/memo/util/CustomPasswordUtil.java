@@ -5,20 +5,40 @@ import org.mindrot.jbcrypt.BCrypt;
 /**
  * 비밀번호 인코딩과 디코딩을 위한 유틸리티 클래스입니다
  * 회원가입과 로그인 시 사용됩니다
+ * <p>
+ * 요청 처리 중에는 CPU 사용을 제한하기 위해 {@link com.my.memo.config.auth.PasswordHasher}를 통해 호출합니다
  */
 public class CustomPasswordUtil {
 
+    private static final String BCRYPT_PREFIX = "$2a$";
 
     // 비밀번호 해싱
     public static String encode(String plainTextPassword) {
         return BCrypt.hashpw(plainTextPassword, BCrypt.gensalt());
     }
 
+    // 지정한 cost(log rounds)로 비밀번호 해싱
+    public static String encode(String plainTextPassword, int cost) {
+        return BCrypt.hashpw(plainTextPassword, BCrypt.gensalt(cost));
+    }
+
     //비밀번호 검증
     public static boolean matches(String plainTextPassword, String hashedPassword) {
-        if (hashedPassword == null || !hashedPassword.startsWith("$2a$")) {
+        if (hashedPassword == null || !hashedPassword.startsWith(BCRYPT_PREFIX)) {
             return false;
         }
         return BCrypt.checkpw(plainTextPassword, hashedPassword);
     }
+
+    //해시에 기록된 cost 추출 ($2a$10$... 형식), 알 수 없는 형식이면 -1
+    public static int getCost(String hashedPassword) {
+        if (hashedPassword == null || hashedPassword.length() < 7 || !hashedPassword.startsWith(BCRYPT_PREFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hashedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 }
@@ -1,9 +1,3 @@
-
-drop table if exists schedule_user;
-drop table if exists comments;
-drop table if exists schedules;
-drop table if exists users;
-
 create table users
 (
     created_at       datetime(6)            null,
@@ -32,10 +26,16 @@ create table schedules
     user_id             bigint       null,
     content             varchar(512) null,
     weather_on_creation varchar(255) null,
+    comment_cnt         bigint       default 0 not null,
+    assigned_user_cnt   bigint       default 0 not null,
     constraint FKd4y4xekwahv9boo6lc8gfl3jv
         foreign key (user_id) references users (id)
 );
 
+-- 유저 일정 목록 조회 (user_id 범위 + (last_modified_at, id) 키셋 정렬)
+create index idx_schedules_user_modified
+    on schedules (user_id, last_modified_at, id);
+
 
 
 create table comments
@@ -66,4 +66,3 @@ create table schedule_user
     constraint FKikussghgqxw29x5mryic21ynb
         foreign key (user_id) references users (id)
 );
-
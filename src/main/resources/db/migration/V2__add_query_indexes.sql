@@ -0,0 +1,30 @@
+-- 공개 일정 목록/개수 조회 (is_public 필터 + (last_modified_at, id) 키셋 정렬)
+create index idx_schedules_public_modified
+    on schedules (is_public, last_modified_at, id);
+
+-- 일정 상세의 댓글 페이지 조회 (schedule_id 필터 + created_at 정렬), 일정 단위 댓글 삭제
+create index idx_comments_schedule_created
+    on comments (schedule_id, created_at);
+
+-- 유저가 작성한 댓글 삭제 및 해당 일정들의 댓글 수 차감
+create index idx_comments_user_schedule
+    on comments (user_id, schedule_id);
+
+-- 같은 유저가 같은 일정에 중복 배정된 기록 정리 후 유니크 제약 추가
+delete
+from schedule_user
+where id not in (select min_id
+                 from (select min(id) as min_id
+                       from schedule_user
+                       group by schedule_id, user_id) t);
+
+alter table schedule_user
+    add constraint uk_schedule_user_schedule_user unique (schedule_id, user_id);
+
+-- 유저가 배정된 기록 삭제 및 해당 일정들의 배정 인원 수 차감
+create index idx_schedule_user_user_schedule
+    on schedule_user (user_id, schedule_id);
+
+-- 작성자명 일치/접두 검색 (앞쪽 와일드카드 LIKE는 인덱스를 사용할 수 없음)
+create index idx_users_name
+    on users (name);
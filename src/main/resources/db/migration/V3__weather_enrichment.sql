@@ -0,0 +1,17 @@
+create table weather_enrichment_dead_letter
+(
+    created_at       datetime(6)  null,
+    id               bigint auto_increment
+        primary key,
+    last_modified_at datetime(6)  null,
+    schedule_id      bigint       not null,
+    weather_date     varchar(5)   null,
+    attempts         int          not null,
+    last_error       varchar(512) null,
+    constraint uk_weather_dead_letter_schedule
+        unique (schedule_id)
+);
+
+-- 날씨 정보 대기 일정 재적재 (weather_on_creation 일치 + created_at 범위)
+create index idx_schedules_weather_created
+    on schedules (weather_on_creation, created_at);
@@ -0,0 +1,26 @@
+alter table users
+    add column deleted bit default 0 not null;
+
+create table account_deletion_jobs
+(
+    created_at          datetime(6)  null,
+    id                  bigint auto_increment
+        primary key,
+    last_modified_at    datetime(6)  null,
+    user_id             bigint       not null,
+    status              varchar(20)  not null,
+    phase               varchar(20)  not null,
+    last_schedule_id    bigint       default 0 not null,
+    deleted_assignments bigint       default 0 not null,
+    deleted_comments    bigint       default 0 not null,
+    deleted_schedules   bigint       default 0 not null,
+    attempts            int          default 0 not null,
+    last_error          varchar(512) null,
+    version             bigint       default 0 not null,
+    constraint uk_account_deletion_jobs_user
+        unique (user_id)
+);
+
+-- 처리할 작업 조회 (status 필터 + id 순)
+create index idx_account_deletion_jobs_status
+    on account_deletion_jobs (status, id);
@@ -0,0 +1,21 @@
+-- 테이블 기반 pooled ID 할당기 (IdSequence 참고)
+create table id_sequences
+(
+    sequence_name varchar(64) not null
+        primary key,
+    next_val      bigint      not null
+);
+
+-- pooled 할당기는 읽어 온 값(v)에 대해 (v - allocationSize, v] 범위를 사용하므로
+-- 기존 최대 ID보다 allocationSize(50) 이상 큰 값으로 시작해야 기존 행과 겹치지 않음
+insert into id_sequences (sequence_name, next_val)
+select 'users', coalesce(max(id), 0) + 100
+from users;
+
+insert into id_sequences (sequence_name, next_val)
+select 'schedules', coalesce(max(id), 0) + 100
+from schedules;
+
+insert into id_sequences (sequence_name, next_val)
+select 'comments', coalesce(max(id), 0) + 100
+from comments;
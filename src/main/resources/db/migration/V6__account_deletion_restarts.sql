@@ -0,0 +1,3 @@
+-- 계정 삭제 중 남은 데이터로 처음 단계부터 다시 처리한 횟수
+alter table account_deletion_jobs
+    add column restarts int default 0 not null;
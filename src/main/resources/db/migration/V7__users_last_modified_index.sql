@@ -0,0 +1,3 @@
+-- 검색 색인 따라잡기(ScheduleSearchIndex.catchUp)에서 최근 변경된 유저를 찾기 위한 인덱스
+create index idx_users_last_modified
+    on users (last_modified_at);
@@ -0,0 +1,112 @@
+package com.my.memo;
+
+import com.my.memo.domain.comment.Comment;
+import com.my.memo.domain.comment.CommentRepository;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.schedule.ScheduleRepository;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import com.my.memo.domain.user.UserRepository;
+import com.my.memo.metrics.RequestQueryStats;
+import com.my.memo.util.CustomPasswordUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * test 프로필(H2, MySQL 모드)로 애플리케이션 컨텍스트를 띄우는 통합 테스트 공통 설정입니다
+ * <p>
+ * 모든 테스트가 같은 설정을 사용해야 컨텍스트와 인메모리 DB가 공유되므로, 다른 설정이 필요한 테스트는 DB 이름도 따로 지정합니다
+ * 외부 날씨 API는 연결이 즉시 거부되는 주소로 바꿔 테스트가 네트워크에 의존하지 않도록 합니다
+ * 계정 삭제 작업은 테스트가 직접 실행하므로, 백그라운드 실행이 테스트 도중 끼어들지 않도록 주기를 길게 잡습니다
+ */
+@SpringBootTest(properties = {
+        "weather.api.url=http://localhost:9",
+        "spring.jpa.show-sql=false",
+        "account-deletion.poll-interval=1h"
+})
+@ActiveProfiles("test")
+public abstract class IntegrationTestSupport {
+
+    protected static final String PASSWORD = "password1234";
+    private static final String PASSWORD_HASH = CustomPasswordUtil.encode(PASSWORD, 4);
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected ScheduleRepository scheduleRepository;
+
+    @Autowired
+    protected CommentRepository commentRepository;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
+    protected User saveUser(Role role) {
+        int seq = SEQUENCE.incrementAndGet();
+        return userRepository.save(User.builder()
+                .name("t" + seq)
+                .email("test" + seq + "@memo.com")
+                .password(PASSWORD_HASH)
+                .role(role)
+                .build());
+    }
+
+    protected Schedule saveSchedule(User owner, boolean isPublic) {
+        LocalDateTime now = LocalDateTime.now();
+        return scheduleRepository.save(Schedule.builder()
+                .content("테스트 일정 " + SEQUENCE.incrementAndGet())
+                .startAt(now)
+                .endAt(now.plusHours(1))
+                .isPublic(isPublic)
+                .user(owner)
+                .weatherOnCreation("맑음")
+                .build());
+    }
+
+    //댓글 수 집계 컬럼도 저장한 개수만큼 맞춤
+    protected List<Comment> saveComments(Schedule schedule, User author, int count) {
+        List<Comment> comments = commentRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(i -> Comment.builder().content("댓글 " + i).user(author).schedule(schedule).build())
+                .toList());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> scheduleRepository.addCommentCnt(schedule.getId(), count));
+        return comments;
+    }
+
+    protected long commentCnt(Long scheduleId) {
+        return jdbcTemplate.queryForObject("select comment_cnt from schedules where id = ?", Long.class, scheduleId);
+    }
+
+    protected long assignedUserCnt(Long scheduleId) {
+        return jdbcTemplate.queryForObject("select assigned_user_cnt from schedules where id = ?", Long.class, scheduleId);
+    }
+
+    /**
+     * action 실행 동안 현재 스레드에서 실행된 SQL 문 수와 로드된 엔티티 수를 잽니다
+     */
+    protected QueryCount countQueries(Runnable action) {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            action.run();
+            return new QueryCount(stats.getStatementCnt(), stats.getEntityLoadCnt());
+        } finally {
+            RequestQueryStats.end();
+        }
+    }
+
+    protected record QueryCount(int statements, int entityLoads) {
+    }
+}
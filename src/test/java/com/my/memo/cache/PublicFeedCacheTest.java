@@ -0,0 +1,68 @@
+package com.my.memo.cache;
+
+import com.my.memo.dto.schedule.req.PublicScheduleFilter;
+import com.my.memo.dto.schedule.resp.PublicScheduleListRespDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicFeedCacheTest {
+
+    private PublicFeedCache publicFeedCache;
+    private final AtomicInteger loadCnt = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        publicFeedCache = new PublicFeedCache(Clock.systemUTC(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(publicFeedCache, "enabled", true);
+        ReflectionTestUtils.setField(publicFeedCache, "maxSize", 100);
+        ReflectionTestUtils.setField(publicFeedCache, "ttl", Duration.ofMinutes(5));
+        publicFeedCache.init();
+    }
+
+    @Test
+    void 같은_필터는_캐시에서_응답한다() {
+        load(filter("kim", "회의"));
+        load(filter("kim", "회의"));
+
+        assertThat(loadCnt.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 구분자가_든_검색어는_다른_필드_값과_키가_겹치지_않는다() {
+        load(filter("kim,회의", null));
+        load(filter("kim", "회의"));
+
+        assertThat(loadCnt.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 앞뒤_공백만_다른_검색어도_다른_키로_조회한다() {
+        load(filter("kim", "회의"));
+        load(filter("kim", " 회의 "));
+
+        assertThat(loadCnt.get()).isEqualTo(2);
+    }
+
+    private void load(PublicScheduleFilter filter) {
+        publicFeedCache.get(filter, () -> {
+            loadCnt.incrementAndGet();
+            return new PublicScheduleListRespDto(List.of(), false, 0, 0, 0, null);
+        });
+    }
+
+    private PublicScheduleFilter filter(String authorName, String q) {
+        PublicScheduleFilter filter = new PublicScheduleFilter();
+        filter.setAuthorName(authorName);
+        filter.setQ(q);
+        return filter;
+    }
+}
@@ -0,0 +1,70 @@
+package com.my.memo.cache;
+
+import com.my.memo.dto.schedule.req.PublicScheduleFilter;
+import com.my.memo.dto.schedule.req.UserScheduleFilter;
+import com.my.memo.event.ScheduleChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleCountCacheTest {
+
+    private ScheduleCountCache scheduleCountCache;
+    private final AtomicInteger loadCnt = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        scheduleCountCache = new ScheduleCountCache(Clock.systemUTC());
+        ReflectionTestUtils.setField(scheduleCountCache, "mode", ScheduleCountCache.Mode.WRITE_INVALIDATED);
+        ReflectionTestUtils.setField(scheduleCountCache, "ttl", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(scheduleCountCache, "maxSize", 100);
+    }
+
+    @Test
+    void 구분자가_든_검색어는_다른_필드_값과_키가_겹치지_않는다() {
+        loadPublic("kim,회의", null);
+        loadPublic("kim", "회의");
+        loadPublic("kim", "회의");
+
+        assertThat(loadCnt.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 앞뒤_공백만_다른_검색어도_다른_키로_조회한다() {
+        loadPublic("kim", null);
+        loadPublic(" kim ", null);
+
+        assertThat(loadCnt.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 일정이_바뀌면_공개_개수와_작성자의_개수만_무효화한다() {
+        loadPublic("kim", null);
+        loadUser(1L);
+        loadUser(2L);
+
+        scheduleCountCache.onScheduleChanged(new ScheduleChangedEvent(ScheduleChangedEvent.Type.CREATED, 10L, 1L));
+        loadPublic("kim", null);
+        loadUser(1L);
+        loadUser(2L);
+
+        assertThat(loadCnt.get()).isEqualTo(5);
+    }
+
+    private void loadPublic(String authorName, String q) {
+        PublicScheduleFilter filter = new PublicScheduleFilter();
+        filter.setAuthorName(authorName);
+        filter.setQ(q);
+        scheduleCountCache.getPublicCount(filter, loadCnt::incrementAndGet);
+    }
+
+    private void loadUser(Long userId) {
+        scheduleCountCache.getUserCount(userId, new UserScheduleFilter(), loadCnt::incrementAndGet);
+    }
+}
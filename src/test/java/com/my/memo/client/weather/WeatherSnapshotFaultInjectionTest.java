@@ -0,0 +1,109 @@
+package com.my.memo.client.weather;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+class WeatherSnapshotFaultInjectionTest extends WeatherStubTestSupport {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(40);
+
+    @Test
+    void 연속_실패하면_서킷이_열려_외부_API를_호출하지_않고_이전_스냅샷을_유지한다() {
+        weatherSnapshot.refresh();
+        STUB.respondWith(500, Duration.ZERO);
+
+        for (int i = 0; i < 5; i++) {
+            weatherSnapshot.refresh();
+        }
+        int requestCntWhenOpened = STUB.getRequestCnt();
+        for (int i = 0; i < 3; i++) {
+            weatherSnapshot.refresh();
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker("weather").getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(STUB.getRequestCnt()).isEqualTo(requestCntWhenOpened);
+        assertThat(weatherSnapshot.find("01-01")).contains("맑음");
+    }
+
+    @Test
+    void 벌크헤드는_동시_외부_호출을_제한한다() throws Exception {
+        STUB.respondWith(200, Duration.ofMillis(500));
+        int threads = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    weatherSnapshot.refresh();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        //max-concurrent-calls: 2, max-wait-duration: 0 이므로 나머지 호출은 대기 없이 거절됨
+        assertThat(STUB.getMaxInFlight()).isLessThanOrEqualTo(2);
+        assertThat(STUB.getRequestCnt()).isLessThan(threads);
+        assertThat(weatherSnapshot.find("01-02")).contains("비");
+    }
+
+    @Test
+    void 실패할수록_지터를_섞은_지수_백오프로_재시도하고_성공하면_갱신_주기로_돌아간다() {
+        STUB.respondWith(500, Duration.ZERO);
+        Set<Long> jitters = new HashSet<>();
+
+        for (int failures = 1; failures <= 4; failures++) {
+            Duration expected = INITIAL_BACKOFF.multipliedBy(1L << (failures - 1));
+            if (expected.compareTo(MAX_BACKOFF) > 0) {
+                expected = MAX_BACKOFF;
+            }
+            jitters.add(assertNextRefreshWithin(expected).toMillis());
+        }
+
+        STUB.respondWith(200, Duration.ZERO);
+        assertNextRefreshWithin(Duration.ofHours(1));
+
+        //매번 같은 지연이면 여러 인스턴스가 같은 시각에 재시도하게 됨
+        assertThat(jitters).hasSizeGreaterThan(1);
+    }
+
+    //refresh() 한 번을 실행하고, 다음 갱신이 expected ± jitter-ratio(10%) 안에 예약됐는지 확인한 뒤 지터 크기를 반환
+    private Duration assertNextRefreshWithin(Duration expected) {
+        Instant before = Instant.now();
+        weatherSnapshot.refresh();
+        Instant after = Instant.now();
+
+        ArgumentCaptor<Instant> scheduledAt = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler, atLeastOnce()).schedule(any(Runnable.class), scheduledAt.capture());
+        Duration jitterBound = expected.dividedBy(10);
+        assertThat(scheduledAt.getValue())
+                .isAfterOrEqualTo(before.plus(expected).minus(jitterBound))
+                .isBeforeOrEqualTo(after.plus(expected).plus(jitterBound));
+        return Duration.between(before.plus(expected), scheduledAt.getValue());
+    }
+}
@@ -0,0 +1,84 @@
+package com.my.memo.client.weather;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 날씨 API 대신 응답하는 로컬 스텁 서버입니다
+ * <p>
+ * 응답 상태 코드와 지연 시간을 테스트 중에 바꿔 장애(5xx, 응답 지연)를 주입하고, 받은 요청 수와 최대 동시 요청 수를 기록합니다
+ */
+class WeatherStubServer {
+
+    static final String BODY = "[{\"date\":\"01-01\",\"weather\":\"맑음\"},{\"date\":\"01-02\",\"weather\":\"비\"}]";
+
+    private final HttpServer server;
+    private final AtomicInteger requestCnt = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile Duration delay = Duration.ZERO;
+
+    WeatherStubServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    void respondWith(int status, Duration delay) {
+        this.status = status;
+        this.delay = delay;
+    }
+
+    void reset() {
+        respondWith(200, Duration.ZERO);
+        requestCnt.set(0);
+        maxInFlight.set(0);
+    }
+
+    int getRequestCnt() {
+        return requestCnt.get();
+    }
+
+    int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCnt.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(delay.toMillis());
+            byte[] body = status == 200 ? BODY.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            //클라이언트가 타임아웃으로 먼저 연결을 끊은 경우
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
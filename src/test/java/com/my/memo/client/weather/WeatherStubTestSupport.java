@@ -0,0 +1,63 @@
+package com.my.memo.client.weather;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * weather.api.url 을 로컬 스텁 서버로 바꿔 날씨 스냅샷 갱신을 검증하는 테스트 공통 설정입니다
+ * <p>
+ * 다른 통합 테스트와 설정이 달라 컨텍스트가 따로 뜨므로 인메모리 DB 이름도 따로 지정합니다
+ * 백오프 재시도가 테스트 도중 실행되지 않도록 갱신 주기와 백오프를 길게 잡고, 테스트에서는 refresh()를 직접 호출합니다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:weathertestdb;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+        "spring.jpa.show-sql=false",
+        "spring.cloud.openfeign.client.config.weatherFeignClient.connect-timeout=500",
+        "spring.cloud.openfeign.client.config.weatherFeignClient.read-timeout=1000",
+        "weather.snapshot.refresh-interval=1h",
+        "weather.snapshot.initial-backoff=10m",
+        "weather.snapshot.max-backoff=40m",
+        "weather.snapshot.jitter-ratio=0.1"
+})
+@ActiveProfiles("test")
+abstract class WeatherStubTestSupport {
+
+    protected static final WeatherStubServer STUB = new WeatherStubServer();
+
+    @Autowired
+    protected WeatherSnapshot weatherSnapshot;
+
+    @Autowired
+    protected CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @SpyBean
+    protected TaskScheduler taskScheduler;
+
+    @DynamicPropertySource
+    static void weatherApiUrl(DynamicPropertyRegistry registry) {
+        registry.add("weather.api.url", STUB::url);
+    }
+
+    //애플리케이션 시작 시 예약된 첫 갱신이 끝난 뒤, 이전 테스트에서 주입한 장애와 서킷 상태를 되돌림
+    @BeforeEach
+    void resetStub() throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (weatherSnapshot.getRefreshedAt().isEmpty() && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+        }
+        STUB.reset();
+        circuitBreakerRegistry.circuitBreaker("weather").reset();
+        Mockito.clearInvocations(taskScheduler);
+    }
+}
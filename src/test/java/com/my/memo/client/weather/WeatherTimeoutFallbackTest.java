@@ -0,0 +1,50 @@
+package com.my.memo.client.weather;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherTimeoutFallbackTest extends WeatherStubTestSupport {
+
+    @Autowired
+    private WeatherClient weatherClient;
+
+    @Test
+    void 응답이_늦으면_read_timeout에서_끊고_이전_스냅샷으로_응답한다() {
+        weatherSnapshot.refresh();
+        Optional<Instant> refreshedAt = weatherSnapshot.getRefreshedAt();
+        STUB.respondWith(200, Duration.ofSeconds(5));
+
+        long startNanos = System.nanoTime();
+        weatherSnapshot.refresh();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        //read-timeout: 1000ms 이므로 스텁의 5초 지연을 기다리지 않음
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(3));
+        assertThat(weatherSnapshot.getRefreshedAt()).isEqualTo(refreshedAt);
+        assertThat(weatherClient.findWeather("01-01")).contains("맑음");
+    }
+
+    @Test
+    void 날씨_조회는_외부_API를_호출하지_않는다() {
+        STUB.respondWith(500, Duration.ofSeconds(5));
+
+        long startNanos = System.nanoTime();
+        Optional<String> weather = weatherClient.findWeather("01-02");
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        assertThat(weather).contains("비");
+        assertThat(elapsed).isLessThan(Duration.ofMillis(100));
+        assertThat(STUB.getRequestCnt()).isZero();
+    }
+
+    @Test
+    void 스냅샷에_없는_날짜는_날씨_없음_문구로_대체한다() {
+        assertThat(weatherClient.findWeather("13-45")).contains("날씨 정보가 없네용 🥹");
+    }
+}
@@ -0,0 +1,144 @@
+package com.my.memo.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.memo.IntegrationTestSupport;
+import com.my.memo.config.auth.jwt.JwtProvider;
+import com.my.memo.config.auth.jwt.JwtVo;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import com.my.memo.service.ScheduleExportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증부터 스트리밍 응답 기록까지 일정 내보내기 요청 전체를 형식/압축 조합별로 확인합니다
+ * <p>
+ * 다른 통합 테스트와 컨텍스트를 공유하도록 MockMvc는 애플리케이션 컨텍스트에서 직접 만들고,
+ * 일정 수보다 묶음 크기를 작게 잡아 여러 번 나누어 기록되는 경우를 함께 검증합니다
+ */
+class ScheduleExportControllerTest extends IntegrationTestSupport {
+
+    private static final int SCHEDULE_CNT = 5;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ScheduleExportService scheduleExportService;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private String token;
+    private List<Long> scheduleIds;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        ReflectionTestUtils.setField(scheduleExportService, "chunkSize", 2);
+
+        User owner = saveUser(Role.USER);
+        User commenter = saveUser(Role.USER);
+        token = jwtProvider.create(owner);
+        scheduleIds = IntStream.range(0, SCHEDULE_CNT)
+                .mapToObj(i -> {
+                    Schedule schedule = saveSchedule(owner, i % 2 == 0);
+                    saveComments(schedule, commenter, 1);
+                    return schedule.getId();
+                })
+                .toList();
+    }
+
+    @AfterEach
+    void restoreChunkSize() {
+        ReflectionTestUtils.setField(scheduleExportService, "chunkSize", 200);
+    }
+
+    @ParameterizedTest(name = "format={0}, gzip={1}")
+    @CsvSource({
+            "ndjson, false",
+            "ndjson, true",
+            "csv, false",
+            "csv, true"
+    })
+    void 내_일정을_형식과_압축_여부에_맞춰_스트리밍한다(String format, boolean gzip) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/schedules/users/export")
+                        .param("format", format)
+                        .header(JwtVo.HEADER, token)
+                        .header(HttpHeaders.ACCEPT_ENCODING, gzip ? "gzip, deflate" : "identity"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo(gzip ? "gzip" : null);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("schedules." + format);
+        String body = decode(response.getContentAsByteArray(), gzip);
+
+        if (format.equals("ndjson")) {
+            assertThat(response.getContentType()).startsWith("application/x-ndjson");
+            List<JsonNode> lines = body.lines().filter(line -> !line.isBlank()).map(this::readTree).toList();
+            assertThat(lines).extracting(line -> line.get("id").asLong()).containsExactlyElementsOf(scheduleIds);
+            assertThat(lines).allSatisfy(line -> assertThat(line.get("comments")).hasSize(1));
+        } else {
+            assertThat(response.getContentType()).startsWith("text/csv");
+            List<String> lines = body.lines().toList();
+            assertThat(lines.get(0)).isEqualTo("\uFEFFid,content,startAt,endAt,isPublic,weatherOnCreation,createdAt,lastModifiedAt,assignees,comments");
+            assertThat(lines.subList(1, lines.size()))
+                    .extracting(line -> Long.valueOf(line.substring(0, line.indexOf(','))))
+                    .containsExactlyElementsOf(scheduleIds);
+        }
+    }
+
+    private String decode(byte[] content, boolean gzip) throws IOException {
+        if (!gzip) {
+            assertThat(Arrays.copyOf(content, 2)).isNotEqualTo(new byte[]{(byte) 0x1f, (byte) 0x8b});
+            return new String(content, StandardCharsets.UTF_8);
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
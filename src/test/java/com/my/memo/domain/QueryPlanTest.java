@@ -0,0 +1,191 @@
+package com.my.memo.domain;
+
+import com.my.memo.IntegrationTestSupport;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.schedule.dto.ScheduleCursor;
+import com.my.memo.domain.scheduleUser.ScheduleUserRepository;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import com.my.memo.dto.schedule.req.PublicScheduleFilter;
+import com.my.memo.dto.schedule.req.UserScheduleFilter;
+import com.my.memo.search.ScheduleSearchCandidates;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 실행되는 조회가 V1/V2 마이그레이션의 인덱스를 타는지 EXPLAIN 실행 계획으로 확인합니다
+ * <p>
+ * 리포지토리 메서드를 실제로 호출하면서 datasource-proxy로 하이버네이트가 만든 SQL과 바인딩 값을 가로채고, 그 SQL을 그대로 EXPLAIN 합니다
+ * 따라서 JPQL이나 매핑이 바뀌면 실행 계획도 바뀐 SQL 기준으로 검사됩니다 (H2, MySQL 모드 플래너 기준)
+ * join이 있는 조회는 대상 테이블의 접근 경로만 확인하고, V1의 외래 키 인덱스가 같은 선두 컬럼을 가진 경우에는 어느 쪽을 골라도 되도록 허용합니다
+ * 인덱스가 빠지거나 조건이 바뀌어 대상 테이블이 전체 스캔(tableScan)으로 떨어지면 실패합니다
+ */
+class QueryPlanTest extends IntegrationTestSupport {
+
+    private static final CapturingListener LISTENER = new CapturingListener();
+    private static boolean seeded;
+    private static User admin;
+    private static User author;
+    private static Schedule schedule;
+
+    @Autowired
+    private ScheduleUserRepository scheduleUserRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    //빈 테이블에서는 플래너가 전체 스캔을 골라도 비용이 같으므로 통계가 의미 있도록 데이터를 채움
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener().addListener(LISTENER);
+        admin = saveUser(Role.ADMIN);
+        IntStream.range(0, 20).forEach(i -> {
+            User user = saveUser(Role.USER);
+            IntStream.range(0, 10).forEach(j -> {
+                Schedule saved = saveSchedule(user, j % 2 == 0);
+                saveComments(saved, admin, 3);
+                jdbcTemplate.update("insert into schedule_user (schedule_id, user_id, created_at, last_modified_at) values (?, ?, now(), now())",
+                        saved.getId(), admin.getId());
+                author = user;
+                schedule = saved;
+            });
+        });
+        jdbcTemplate.execute("analyze");
+        seeded = true;
+    }
+
+    @TestFactory
+    Stream<DynamicTest> 조회가_인덱스를_사용한다() {
+        return Stream.of(
+                planTest("공개 일정 키셋 목록", "schedules", "idx_schedules_public_modified", () -> {
+                    PublicScheduleFilter filter = new PublicScheduleFilter();
+                    filter.setSkipTotals(true);
+                    filter.setCursor(new ScheduleCursor(LocalDateTime.now(), Long.MAX_VALUE).encode());
+                    scheduleRepository.findPublicSchedulesWithFilters(filter, ScheduleSearchCandidates.NONE);
+                }),
+                planTest("내 일정 목록", "schedules", "idx_schedules_user_modified FKd4y4xekwahv9boo6lc8gfl3jv", () -> {
+                    UserScheduleFilter filter = new UserScheduleFilter();
+                    filter.setSkipTotals(true);
+                    scheduleRepository.findUserSchedulesWithFilters(author, filter);
+                }),
+                planTest("일정 댓글 조회", "comments", "idx_comments_schedule_created FKbef7m370enopdpf7yp6nmv0oo", () ->
+                        commentRepository.findCommentsWithUserBySchedule(schedule, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt")))),
+                planTest("사용자 댓글 조회", "comments", "idx_comments_user_schedule FK8omq0tc18jd43bu5tjh6jvraq", () ->
+                        commentRepository.findRowsByUserId(admin.getId(), PageRequest.of(0, 500))),
+                planTest("일정 배정 사용자 조회", "schedule_user", "uk_schedule_user_schedule_user FK5mmtc1rwy49p0w68lrpdox1o", () ->
+                        scheduleUserRepository.findScheduleUserBySchedule(schedule)),
+                planTest("사용자 배정 일정 조회", "schedule_user", "idx_schedule_user_user_schedule FKikussghgqxw29x5mryic21ynb", () ->
+                        scheduleUserRepository.findRowsByUserId(admin.getId(), PageRequest.of(0, 500)))
+        );
+    }
+
+    private DynamicTest planTest(String description, String table, String indexes, Runnable query) {
+        return DynamicTest.dynamicTest(description, () -> {
+            CapturedQuery captured = captureFirstQueryOn(table, query);
+            String plan = String.join("\n", jdbcTemplate.queryForList("explain " + captured.sql(), String.class, captured.parameters()));
+            String access = accessPathOf(table, plan);
+
+            assertThat(access)
+                    .as("%s 실행 계획의 %s 접근 경로: %s", description, table, plan)
+                    .doesNotContainIgnoringCase("tableScan");
+            assertThat(Arrays.stream(indexes.split(" ")))
+                    .as("%s 실행 계획이 %s 중 하나를 사용해야 함: %s", description, indexes, plan)
+                    .anyMatch(index -> access.toLowerCase().contains(index.toLowerCase()));
+        });
+    }
+
+    //쿼리를 트랜잭션 안에서 실행하고, 이 스레드에서 실행된 SQL 중 대상 테이블을 읽는 첫 번째 문장을 반환
+    private CapturedQuery captureFirstQueryOn(String table, Runnable query) {
+        List<CapturedQuery> captured = LISTENER.capture(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> query.run()));
+        Pattern tablePattern = Pattern.compile("\\b" + table + "\\b", Pattern.CASE_INSENSITIVE);
+        return captured.stream()
+                .filter(capturedQuery -> tablePattern.matcher(capturedQuery.sql()).find())
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(table + " 테이블을 읽는 SQL이 실행되지 않음: " + captured));
+    }
+
+    //H2 실행 계획은 테이블마다 "PUBLIC"."테이블" "별칭" /* 접근 경로 */ 형태로 표시됨
+    private String accessPathOf(String table, String plan) {
+        Matcher matcher = Pattern.compile("\\.\"?" + table + "\"?\\s+\"?\\w+\"?\\s*/\\*(.*?)\\*/", Pattern.CASE_INSENSITIVE | Pattern.DOTALL)
+                .matcher(plan);
+        assertThat(matcher.find()).as("실행 계획에서 %s 테이블을 찾지 못함: %s", table, plan).isTrue();
+        return matcher.group(1);
+    }
+
+    private record CapturedQuery(String sql, Object[] parameters) {
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+
+    /**
+     * capture() 실행 동안 호출한 스레드에서 실행된 SQL과 바인딩 값을 모읍니다 (스케줄러 등 다른 스레드의 SQL은 제외)
+     */
+    private static class CapturingListener implements QueryExecutionListener {
+
+        private volatile Thread capturingThread;
+        private final List<CapturedQuery> captured = new ArrayList<>();
+
+        List<CapturedQuery> capture(Runnable action) {
+            captured.clear();
+            capturingThread = Thread.currentThread();
+            try {
+                action.run();
+            } finally {
+                capturingThread = null;
+            }
+            return List.copyOf(captured);
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (Thread.currentThread() != capturingThread) {
+                return;
+            }
+            queryInfoList.forEach(queryInfo -> captured.add(new CapturedQuery(queryInfo.getQuery(), parametersOf(queryInfo))));
+        }
+
+        //JDBC 인덱스 순으로 정렬한 첫 번째 파라미터 묶음 (setNull은 null로 바인딩)
+        private static Object[] parametersOf(QueryInfo queryInfo) {
+            if (queryInfo.getParametersList().isEmpty()) {
+                return new Object[0];
+            }
+            return queryInfo.getParametersList().get(0).stream()
+                    .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                    .map(operation -> operation.getMethod().getName().equals("setNull") ? null : operation.getArgs()[1])
+                    .toArray();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.my.memo.domain.accountDeletion;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountDeletionJobTest {
+
+    @Test
+    void 재시작하면_일정_체크포인트를_초기화한다() {
+        AccountDeletionJob job = new AccountDeletionJob(1L);
+        job.start();
+        job.addDeletedSchedules(10, 500L);
+        job.moveTo(AccountDeletionJob.Phase.USER);
+
+        job.restart(3);
+
+        assertThat(job.getPhase()).isEqualTo(AccountDeletionJob.Phase.ASSIGNMENTS);
+        assertThat(job.getLastScheduleId()).isZero();
+        assertThat(job.getStatus()).isEqualTo(AccountDeletionJob.Status.RUNNING);
+    }
+
+    @Test
+    void 재시작_횟수를_넘으면_실패_처리한다() {
+        AccountDeletionJob job = new AccountDeletionJob(1L);
+        job.start();
+
+        for (int i = 0; i < 3; i++) {
+            job.restart(3);
+        }
+        assertThat(job.getStatus()).isEqualTo(AccountDeletionJob.Status.RUNNING);
+
+        job.restart(3);
+        assertThat(job.getStatus()).isEqualTo(AccountDeletionJob.Status.FAILED);
+        assertThat(job.getRestarts()).isEqualTo(4);
+    }
+}
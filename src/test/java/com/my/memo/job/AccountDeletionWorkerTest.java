@@ -0,0 +1,121 @@
+package com.my.memo.job;
+
+import com.my.memo.IntegrationTestSupport;
+import com.my.memo.domain.accountDeletion.AccountDeletionJob;
+import com.my.memo.domain.accountDeletion.AccountDeletionJobRepository;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 청크 하나씩 실행하면서 단계 전환, 일정 체크포인트, 다른 일정의 집계 컬럼 차감을 확인합니다
+ * <p>
+ * 다른 테스트가 남긴 작업이 섞이지 않도록 process() 대신 작업 하나만 실행합니다
+ */
+class AccountDeletionWorkerTest extends IntegrationTestSupport {
+
+    @Autowired
+    private AccountDeletionWorker accountDeletionWorker;
+
+    @Autowired
+    private AccountDeletionJobRepository accountDeletionJobRepository;
+
+    //컨텍스트를 공유하므로 바꾼 설정은 테스트가 끝나면 되돌림
+    @BeforeEach
+    void shrinkChunks() {
+        ReflectionTestUtils.setField(accountDeletionWorker, "chunkSize", 1);
+        ReflectionTestUtils.setField(accountDeletionWorker, "scheduleChunkSize", 2);
+        ReflectionTestUtils.setField(accountDeletionWorker, "maxChunksPerRun", 1);
+    }
+
+    @AfterEach
+    void restoreChunks() {
+        ReflectionTestUtils.setField(accountDeletionWorker, "chunkSize", 500);
+        ReflectionTestUtils.setField(accountDeletionWorker, "scheduleChunkSize", 50);
+        ReflectionTestUtils.setField(accountDeletionWorker, "maxChunksPerRun", 100);
+    }
+
+    @Test
+    void 청크마다_체크포인트를_커밋하고_다음_실행에서_이어서_삭제한다() {
+        User other = saveUser(Role.USER);
+        Schedule otherSchedule = saveSchedule(other, true);
+        User leaving = saveUser(Role.USER);
+        List<Long> ownScheduleIds = List.of(
+                saveSchedule(leaving, true).getId(),
+                saveSchedule(leaving, false).getId(),
+                saveSchedule(leaving, true).getId());
+        saveComments(otherSchedule, leaving, 2);
+        saveComments(otherSchedule, other, 1);
+        assign(otherSchedule, leaving);
+        Long jobId = requestDeletion(leaving);
+
+        //ASSIGNMENTS: 배정 기록 1건 삭제 후, 빈 청크에서 다음 단계로
+        runOnce(jobId);
+        assertThat(assignedUserCnt(otherSchedule.getId())).isZero();
+        runOnce(jobId);
+        assertThat(findJob(jobId).getPhase()).isEqualTo(AccountDeletionJob.Phase.COMMENTS);
+
+        //COMMENTS: 청크 크기 1이므로 댓글 하나씩 삭제하고 그만큼만 차감
+        runOnce(jobId);
+        assertThat(commentCnt(otherSchedule.getId())).isEqualTo(2);
+        runOnce(jobId);
+        assertThat(commentCnt(otherSchedule.getId())).isEqualTo(1);
+        runOnce(jobId);
+        assertThat(findJob(jobId).getPhase()).isEqualTo(AccountDeletionJob.Phase.SCHEDULES);
+
+        //SCHEDULES: 첫 청크(2건)만 삭제하고 마지막 일정 id를 체크포인트로 남김
+        runOnce(jobId);
+        AccountDeletionJob checkpoint = findJob(jobId);
+        assertThat(checkpoint.getLastScheduleId()).isEqualTo(ownScheduleIds.get(1));
+        assertThat(checkpoint.getDeletedSchedules()).isEqualTo(2L);
+        assertThat(scheduleRepository.findById(ownScheduleIds.get(2))).isPresent();
+
+        //다음 실행은 체크포인트 이후의 일정부터 이어서 삭제
+        runOnce(jobId);
+        assertThat(scheduleRepository.findById(ownScheduleIds.get(2))).isEmpty();
+        assertThat(findJob(jobId).getDeletedSchedules()).isEqualTo(3L);
+
+        runOnce(jobId);
+        runOnce(jobId);
+        AccountDeletionJob done = findJob(jobId);
+        assertThat(done.getStatus()).isEqualTo(AccountDeletionJob.Status.COMPLETED);
+        assertThat(done.getDeletedAssignments()).isEqualTo(1L);
+        assertThat(done.getDeletedComments()).isEqualTo(2L);
+        assertThat(userRepository.findById(leaving.getId())).isEmpty();
+        assertThat(commentCnt(otherSchedule.getId())).isEqualTo(1);
+        assertThat(assignedUserCnt(otherSchedule.getId())).isZero();
+    }
+
+    private void assign(Schedule schedule, User user) {
+        jdbcTemplate.update("insert into schedule_user (schedule_id, user_id, created_at, last_modified_at) values (?, ?, now(), now())",
+                schedule.getId(), user.getId());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> scheduleRepository.addAssignedUserCnt(schedule.getId(), 1));
+    }
+
+    //UserService.deleteUser 와 같이 유저를 탈퇴 처리하고 삭제 작업을 등록
+    private Long requestDeletion(User user) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User userPS = userRepository.findById(user.getId()).orElseThrow();
+            userPS.markDeleted();
+            return accountDeletionJobRepository.save(new AccountDeletionJob(userPS.getId())).getId();
+        });
+    }
+
+    private void runOnce(Long jobId) {
+        ReflectionTestUtils.invokeMethod(accountDeletionWorker, "run", jobId);
+    }
+
+    private AccountDeletionJob findJob(Long jobId) {
+        return accountDeletionJobRepository.findById(jobId).orElseThrow();
+    }
+}
@@ -0,0 +1,58 @@
+package com.my.memo.job;
+
+import com.my.memo.IntegrationTestSupport;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import com.my.memo.event.SchedulesImportedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 환경에서는 날씨 스냅샷을 받아오지 못하므로 적재된 작업은 처리되지 않고 큐에 남습니다
+ * 같은 일정을 다시 적재하면 중복으로 거절되는 것으로 적재 여부를 확인합니다
+ */
+class WeatherEnrichmentQueueTest extends IntegrationTestSupport {
+
+    private static final String DATE = "01-01";
+
+    @Autowired
+    private WeatherEnrichmentQueue weatherEnrichmentQueue;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void 날씨_없이_가져온_일정은_배치_커밋_직후_큐에_적재된다() {
+        User owner = saveUser(Role.USER);
+        List<Long> scheduleIds = List.of(saveSchedule(owner, true).getId(), saveSchedule(owner, false).getId());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(new SchedulesImportedEvent(owner.getId(), scheduleIds, DATE)));
+
+        scheduleIds.forEach(scheduleId -> assertThat(weatherEnrichmentQueue.offer(scheduleId, DATE)).isFalse());
+    }
+
+    @Test
+    void 날씨가_채워진_배치나_롤백된_배치는_적재하지_않는다() {
+        User owner = saveUser(Role.USER);
+        Long filledId = saveSchedule(owner, true).getId();
+        Long rolledBackId = saveSchedule(owner, true).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status ->
+                eventPublisher.publishEvent(new SchedulesImportedEvent(owner.getId(), List.of(filledId), null)));
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new SchedulesImportedEvent(owner.getId(), List.of(rolledBackId), DATE));
+            status.setRollbackOnly();
+        });
+
+        assertThat(weatherEnrichmentQueue.offer(filledId, DATE)).isTrue();
+        assertThat(weatherEnrichmentQueue.offer(rolledBackId, DATE)).isTrue();
+    }
+}
@@ -0,0 +1,56 @@
+package com.my.memo.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramIndexTest {
+
+    private final NGramIndex index = new NGramIndex();
+
+    @Test
+    void 검색어의_모든_n_gram을_포함한_문서만_후보로_반환한다() {
+        index.put(1L, "배포 회의");
+        index.put(2L, "회의록 정리");
+        index.put(3L, "배포 준비");
+
+        assertThat(index.search("배포", 10)).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 3L));
+        assertThat(index.search("회의", 10)).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+        assertThat(index.search("스터디", 10)).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    void 문서를_다시_넣으면_이전_n_gram은_제거된다() {
+        index.put(1L, "배포 회의");
+        index.put(1L, "점심 약속");
+
+        assertThat(index.search("배포", 10)).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(index.search("점심", 10)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 제거한_문서는_검색되지_않고_빈_posting도_정리된다() {
+        index.put(1L, "배포");
+        index.put(2L, "배포");
+        index.remove(1L);
+
+        assertThat(index.search("배포", 10)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+
+        index.remove(2L);
+        assertThat(index.size()).isZero();
+        assertThat(index.gramCnt()).isZero();
+        assertThat(index.postingCnt()).isZero();
+    }
+
+    @Test
+    void 후보가_너무_많거나_색인_대상_문자가_없으면_빈_값을_반환한다() {
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, "배포 " + id);
+        }
+
+        assertThat(index.search("배포", 4)).isEmpty();
+        assertThat(index.search("배포", 5)).hasValueSatisfying(ids -> assertThat(ids).hasSize(5));
+        assertThat(index.search("!!", 10)).isEmpty();
+    }
+}
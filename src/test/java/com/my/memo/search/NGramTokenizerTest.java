@@ -0,0 +1,55 @@
+package com.my.memo.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+
+    private static final String ALPHABET = "가나다라마바사배포회의ABCabc0129 -_.,!";
+
+    @Test
+    void 검색어가_문서의_부분_문자열이면_검색어_n_gram은_문서_n_gram에_포함된다() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 10_000; i++) {
+            String document = randomText(random, 1 + random.nextInt(30));
+            int from = random.nextInt(document.length());
+            int to = from + 1 + random.nextInt(document.length() - from);
+            String query = document.substring(from, to);
+
+            assertThat(NGramTokenizer.documentGrams(document))
+                    .as("문서 [%s], 검색어 [%s]", document, query)
+                    .containsAll(NGramTokenizer.queryGrams(query));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "Deploy 배포|DEPLOY",
+            "회의-준비|회의",
+            "sprint12|t1",
+            "a.b|b"
+    })
+    void 대소문자와_구분자는_검색어와_문서에_같은_규칙으로_적용된다(String document, String query) {
+        assertThat(NGramTokenizer.documentGrams(document)).containsAll(NGramTokenizer.queryGrams(query));
+    }
+
+    @Test
+    void 두_글자_이상_검색어는_2_gram만_사용한다() {
+        assertThat(NGramTokenizer.queryGrams("배포일")).containsExactlyInAnyOrder("배포", "포일");
+        assertThat(NGramTokenizer.queryGrams("배")).containsExactly("배");
+        assertThat(NGramTokenizer.queryGrams("!! ..")).isEmpty();
+    }
+
+    private String randomText(SplittableRandom random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+}
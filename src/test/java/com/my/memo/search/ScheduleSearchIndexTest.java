@@ -0,0 +1,67 @@
+package com.my.memo.search;
+
+import com.my.memo.IntegrationTestSupport;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리로 직접 저장/수정하여 이벤트 없이 바뀐 행(다른 인스턴스에서의 변경)을 흉내 냅니다
+ */
+class ScheduleSearchIndexTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ScheduleSearchIndex scheduleSearchIndex;
+
+    @BeforeEach
+    void buildIndex() {
+        scheduleSearchIndex.build();
+    }
+
+    @Test
+    void 다른_인스턴스에서_변경된_일정은_따라잡기로_반영된다() {
+        Schedule schedule = saveSchedule(saveUser(Role.USER), true);
+        String q = "따라잡기" + schedule.getId();
+        jdbcTemplate.update("update schedules set content = ?, last_modified_at = ? where id = ?", q + " 일정", LocalDateTime.now(), schedule.getId());
+        assertThat(scheduleIds(q)).doesNotContain(schedule.getId());
+
+        scheduleSearchIndex.catchUp();
+        assertThat(scheduleIds(q)).contains(schedule.getId());
+
+        jdbcTemplate.update("update schedules set is_public = false, last_modified_at = ? where id = ?", LocalDateTime.now(), schedule.getId());
+        scheduleSearchIndex.catchUp();
+        assertThat(scheduleIds(q)).doesNotContain(schedule.getId());
+    }
+
+    @Test
+    void 다른_인스턴스에서_이름을_바꾸거나_탈퇴한_유저는_따라잡기로_반영된다() {
+        User user = saveUser(Role.USER);
+        String name = "개명" + user.getId();
+        jdbcTemplate.update("update users set name = ?, last_modified_at = ? where id = ?", name, LocalDateTime.now(), user.getId());
+
+        scheduleSearchIndex.catchUp();
+        assertThat(authorIds(name)).contains(user.getId());
+
+        jdbcTemplate.update("update users set deleted = true, last_modified_at = ? where id = ?", LocalDateTime.now(), user.getId());
+        scheduleSearchIndex.catchUp();
+        assertThat(authorIds(name)).doesNotContain(user.getId());
+    }
+
+    private Set<Long> scheduleIds(String q) {
+        Set<Long> ids = scheduleSearchIndex.search(q, null).getScheduleIds();
+        return ids == null ? Set.of() : ids;
+    }
+
+    private Set<Long> authorIds(String authorName) {
+        Set<Long> ids = scheduleSearchIndex.search(null, authorName).getAuthorIds();
+        return ids == null ? Set.of() : ids;
+    }
+}
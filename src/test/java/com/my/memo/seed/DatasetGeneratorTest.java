@@ -0,0 +1,48 @@
+package com.my.memo.seed;
+
+import com.my.memo.IntegrationTestSupport;
+import com.my.memo.domain.comment.Comment;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatasetGeneratorTest extends IntegrationTestSupport {
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Test
+    void 생성기와_애플리케이션이_같은_ID_할당기를_써서_ID가_겹치지_않는다() {
+        //애플리케이션이 이미 ID 블록을 받아 둔 상태에서 생성
+        User before = saveUser(Role.USER);
+        Schedule scheduleBefore = saveSchedule(before, true);
+
+        DatasetGenerator.Result result = datasetGenerator.generate(DatasetSpec.builder()
+                .users(20)
+                .schedules(100)
+                .batchSize(30)
+                .build());
+
+        //블록 크기(50)를 넘게 저장해 생성 이후에 새로 받은 블록도 확인
+        User after = saveUser(Role.USER);
+        Schedule scheduleAfter = saveSchedule(after, true);
+        List<Long> commentIds = saveComments(scheduleAfter, after, 60).stream().map(Comment::getId).toList();
+
+        List<Long> generatedUserIds = LongStream.range(result.firstUserId(), result.firstUserId() + result.users()).boxed().toList();
+        List<Long> generatedScheduleIds = LongStream.range(result.firstScheduleId(), result.firstScheduleId() + result.schedules()).boxed().toList();
+        assertThat(generatedUserIds).doesNotContain(before.getId(), after.getId());
+        assertThat(generatedScheduleIds).doesNotContain(scheduleBefore.getId(), scheduleAfter.getId());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from users where id between ? and ?", Long.class,
+                result.firstUserId(), result.firstUserId() + result.users() - 1)).isEqualTo(result.users());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from comments where schedule_id between ? and ?", Long.class,
+                result.firstScheduleId(), result.firstScheduleId() + result.schedules() - 1)).isEqualTo(result.comments());
+        assertThat(commentIds).doesNotHaveDuplicates().hasSize(60);
+    }
+}
@@ -0,0 +1,68 @@
+package com.my.memo.service;
+
+import com.my.memo.IntegrationTestSupport;
+import com.my.memo.domain.comment.Comment;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Test
+    void 댓글_삭제는_일정의_댓글_수와_무관하게_같은_수의_SQL만_실행한다() {
+        User author = saveUser(Role.USER);
+        Schedule small = saveSchedule(author, true);
+        Schedule large = saveSchedule(author, true);
+        Comment smallTarget = saveComments(small, author, 1).get(0);
+        Comment largeTarget = saveComments(large, author, 200).get(0);
+
+        QueryCount smallCount = countQueries(() -> commentService.deleteComment(small.getId(), smallTarget.getId(), author.getId()));
+        QueryCount largeCount = countQueries(() -> commentService.deleteComment(large.getId(), largeTarget.getId(), author.getId()));
+
+        assertThat(largeCount).isEqualTo(smallCount);
+        assertThat(commentCnt(large.getId())).isEqualTo(199);
+    }
+
+    @Test
+    void 같은_댓글을_동시에_삭제해도_댓글_수는_한_번만_감소한다() throws Exception {
+        User author = saveUser(Role.USER);
+        Schedule schedule = saveSchedule(author, true);
+        Comment target = saveComments(schedule, author, 3).get(0);
+
+        Callable<Boolean> delete = () -> {
+            try {
+                commentService.deleteComment(schedule.getId(), target.getId(), author.getId());
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = executor.invokeAll(List.of(delete, delete, delete, delete));
+            long succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(commentCnt(schedule.getId())).isEqualTo(2);
+    }
+}
@@ -0,0 +1,30 @@
+package com.my.memo.service;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleExportServiceTest {
+
+    @ParameterizedTest(name = "[{0}] -> {1}")
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            "null|false",
+            "''|false",
+            "gzip|true",
+            "gzip, deflate, br|true",
+            "GZIP;q=0.5|true",
+            "x-gzip|true",
+            "gzip;q=0|false",
+            "gzip; q=0.0|false",
+            "gzip;q=0, *|false",
+            "deflate, *;q=0.1|true",
+            "deflate, *;q=0|false",
+            "deflate, br|false",
+            "identity|false",
+            "gzip;q=abc|false"
+    })
+    void Accept_Encoding의_q_값을_해석해_gzip_허용_여부를_판단한다(String acceptEncoding, boolean expected) {
+        assertThat(ScheduleExportService.acceptsGzip(acceptEncoding)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,202 @@
+package com.my.memo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.memo.IntegrationTestSupport;
+import com.my.memo.cache.ScheduleCountCache;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import com.my.memo.dto.schedule.req.UserScheduleFilter;
+import com.my.memo.event.SchedulesImportedEvent;
+import com.my.memo.job.WeatherEnrichmentQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 본문 형식, 항목별 유효성 검사, 중단 조건, 배치 실패, 배치 커밋 이벤트를 응답 스트림과 DB 상태로 확인합니다
+ * <p>
+ * 컨텍스트를 공유하므로 배치 크기와 최대 항목 수는 테스트마다 줄였다가 되돌립니다
+ * 테스트 컨텍스트의 날씨 API는 연결할 수 없는 주소라 스냅샷이 비어 있으므로, 가져온 일정은 날씨 조회 중 상태로 저장됩니다
+ */
+@RecordApplicationEvents
+class ScheduleImportServiceTest extends IntegrationTestSupport {
+
+    private static final String VALID = "{\"content\":\"가져온 일정 %d\",\"startAt\":\"2024-10-01 10:00\",\"endAt\":\"2024-10-01 11:00\",\"isPublic\":true}";
+    private static final String BLANK_CONTENT = "{\"content\":\"\",\"startAt\":\"2024-10-01 10:00\",\"isPublic\":true}";
+    //형식 검사는 통과하지만 엔티티로 변환할 때 실패하는 날짜
+    private static final String INVALID_MONTH = "{\"content\":\"잘못된 날짜\",\"startAt\":\"2024-13-01 10:00\",\"isPublic\":true}";
+
+    @Autowired
+    private ScheduleImportService scheduleImportService;
+
+    @Autowired
+    private ScheduleCountCache scheduleCountCache;
+
+    @Autowired
+    private WeatherEnrichmentQueue weatherEnrichmentQueue;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduleImportService, "batchSize", 2);
+        owner = saveUser(Role.USER);
+    }
+
+    @AfterEach
+    void restoreLimits() {
+        ReflectionTestUtils.setField(scheduleImportService, "batchSize", 500);
+        ReflectionTestUtils.setField(scheduleImportService, "maxItems", 100000);
+    }
+
+    @Test
+    void JSON_배열과_NDJSON을_같은_결과로_가져온다() throws IOException {
+        List<JsonNode> fromArray = importSchedules("[" + String.join(",", valid(0), valid(1), valid(2)) + "]");
+        List<JsonNode> fromNdjson = importSchedules(String.join("\n", valid(0), valid(1), valid(2)) + "\n");
+
+        for (List<JsonNode> lines : List.of(fromArray, fromNdjson)) {
+            assertThat(results(lines)).extracting(line -> line.get("index").asInt()).containsExactly(0, 1, 2);
+            assertThat(results(lines)).extracting(line -> line.get("status").asText()).containsOnly("CREATED");
+            assertSummary(lines, 3, 3, 0, false);
+        }
+        assertThat(scheduleCnt()).isEqualTo(6);
+    }
+
+    @Test
+    void 유효하지_않은_항목은_건너뛰고_저장에_실패한_배치는_항목별로_실패를_기록한다() throws IOException {
+        //배치 크기 2: [0, 2]는 저장되고 [3, 4]는 4의 날짜 변환 실패로 함께 롤백됨
+        List<JsonNode> lines = importSchedules("[" + String.join(",", valid(0), BLANK_CONTENT, valid(2), valid(3), INVALID_MONTH) + "]");
+
+        JsonNode invalid = result(lines, 1);
+        assertThat(invalid.get("status").asText()).isEqualTo("INVALID");
+        assertThat(invalid.get("errors").has("content")).isTrue();
+        assertThat(result(lines, 0).get("status").asText()).isEqualTo("CREATED");
+        assertThat(result(lines, 2).get("status").asText()).isEqualTo("CREATED");
+        assertThat(result(lines, 3).get("status").asText()).isEqualTo("FAILED");
+        assertThat(result(lines, 4).get("status").asText()).isEqualTo("FAILED");
+        assertSummary(lines, 5, 2, 3, false);
+
+        assertThat(scheduleCnt()).isEqualTo(2);
+        assertThat(scheduleRepository.findById(result(lines, 2).get("scheduleId").asLong())).isPresent();
+    }
+
+    @Test
+    void 최대_항목_수를_넘으면_나머지를_읽지_않고_중단한다() throws IOException {
+        ReflectionTestUtils.setField(scheduleImportService, "maxItems", 3);
+
+        List<JsonNode> lines = importSchedules(String.join("\n", valid(0), valid(1), valid(2), valid(3), valid(4)));
+
+        JsonNode aborted = result(lines, 3);
+        assertThat(aborted.get("status").asText()).isEqualTo("ABORTED");
+        assertThat(aborted.get("message").asText()).contains("3");
+        assertThat(results(lines)).hasSize(4);
+        assertSummary(lines, 3, 3, 0, true);
+        assertThat(scheduleCnt()).isEqualTo(3);
+    }
+
+    @Test
+    void 본문을_읽지_못하면_중단하되_이미_커밋된_배치와_읽은_항목은_저장한다() throws IOException {
+        List<JsonNode> lines = importSchedules(String.join("\n", valid(0), valid(1), valid(2), "{broken"));
+
+        assertThat(result(lines, 0).get("status").asText()).isEqualTo("CREATED");
+        assertThat(result(lines, 1).get("status").asText()).isEqualTo("CREATED");
+        assertThat(result(lines, 2).get("status").asText()).isEqualTo("CREATED");
+        assertThat(result(lines, 3).get("status").asText()).isEqualTo("ABORTED");
+        assertSummary(lines, 3, 3, 0, true);
+        assertThat(scheduleCnt()).isEqualTo(3);
+    }
+
+    @Test
+    void 커밋된_배치마다_가져오기_이벤트를_한_번씩_발행하고_리스너가_반영한다() throws IOException {
+        AtomicInteger countLoads = new AtomicInteger();
+        scheduleCountCache.getUserCount(owner.getId(), new UserScheduleFilter(), countLoads::incrementAndGet);
+
+        List<JsonNode> lines = importSchedules(String.join("\n", valid(0), valid(1), valid(2)));
+        List<Long> createdIds = results(lines).stream().map(line -> line.get("scheduleId").asLong()).toList();
+
+        //일정 3건이 배치 크기 2로 나뉘어 이벤트 2번 (일정마다 발행하지 않음)
+        List<SchedulesImportedEvent> events = applicationEvents.stream(SchedulesImportedEvent.class).toList();
+        assertThat(events).hasSize(2);
+        assertThat(events).allSatisfy(event -> assertThat(event.getOwnerId()).isEqualTo(owner.getId()));
+        assertThat(events).flatExtracting(SchedulesImportedEvent::getScheduleIds).containsExactlyElementsOf(createdIds);
+
+        //일정 개수 캐시 무효화
+        scheduleCountCache.getUserCount(owner.getId(), new UserScheduleFilter(), countLoads::incrementAndGet);
+        assertThat(countLoads).hasValue(2);
+
+        //날씨 없이 저장된 일정은 커밋 직후 날씨 보강 큐에 적재
+        assertThat(events).allSatisfy(event -> assertThat(event.getPendingWeatherDate()).isNotNull());
+        assertThat(scheduleRepository.findAllById(createdIds)).extracting(Schedule::getWeatherOnCreation).containsOnly(Schedule.WEATHER_PENDING);
+        @SuppressWarnings("unchecked")
+        Set<Long> queuedScheduleIds = (Set<Long>) ReflectionTestUtils.getField(weatherEnrichmentQueue, "queuedScheduleIds");
+        assertThat(queuedScheduleIds).containsAll(createdIds);
+    }
+
+    private List<JsonNode> importSchedules(String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        scheduleImportService.importSchedules(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), owner.getId())
+                .writeTo(out);
+        return out.toString(StandardCharsets.UTF_8).lines()
+                .filter(line -> !line.isBlank())
+                .map(this::readTree)
+                .toList();
+    }
+
+    private List<JsonNode> results(List<JsonNode> lines) {
+        return lines.stream().filter(line -> line.has("index")).toList();
+    }
+
+    private JsonNode result(List<JsonNode> lines, int index) {
+        return results(lines).stream()
+                .filter(line -> line.get("index").asInt() == index)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(index + "번 항목의 결과가 없음: " + lines));
+    }
+
+    //요약은 응답 스트림의 마지막 줄
+    private void assertSummary(List<JsonNode> lines, int total, int created, int failed, boolean aborted) {
+        JsonNode summary = lines.get(lines.size() - 1).get("summary");
+        assertThat(summary.get("total").asInt()).isEqualTo(total);
+        assertThat(summary.get("created").asInt()).isEqualTo(created);
+        assertThat(summary.get("failed").asInt()).isEqualTo(failed);
+        assertThat(summary.get("aborted").asBoolean()).isEqualTo(aborted);
+    }
+
+    private long scheduleCnt() {
+        return jdbcTemplate.queryForObject("select count(*) from schedules where user_id = ?", Long.class, owner.getId());
+    }
+
+    private String valid(int i) {
+        return VALID.formatted(i);
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
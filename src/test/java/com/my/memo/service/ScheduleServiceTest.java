@@ -0,0 +1,47 @@
+package com.my.memo.service;
+
+import com.my.memo.IntegrationTestSupport;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import com.my.memo.ex.CustomApiException;
+import com.my.memo.ex.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScheduleServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Test
+    void 일정_삭제는_댓글_수와_무관하게_같은_수의_SQL만_실행한다() {
+        User admin = saveUser(Role.ADMIN);
+        User author = saveUser(Role.USER);
+        Schedule small = saveSchedule(author, true);
+        Schedule large = saveSchedule(author, true);
+        saveComments(small, author, 1);
+        saveComments(large, author, 200);
+
+        QueryCount smallCount = countQueries(() -> scheduleService.deleteSchedule(small.getId(), admin.getId()));
+        QueryCount largeCount = countQueries(() -> scheduleService.deleteSchedule(large.getId(), admin.getId()));
+
+        assertThat(largeCount).isEqualTo(smallCount);
+        assertThat(scheduleRepository.existsById(large.getId())).isFalse();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from comments where schedule_id = ?", Long.class, large.getId())).isZero();
+    }
+
+    @Test
+    void 이미_삭제된_일정은_다시_삭제할_수_없다() {
+        User admin = saveUser(Role.ADMIN);
+        Schedule schedule = saveSchedule(saveUser(Role.USER), true);
+        scheduleService.deleteSchedule(schedule.getId(), admin.getId());
+
+        assertThatThrownBy(() -> scheduleService.deleteSchedule(schedule.getId(), admin.getId()))
+                .isInstanceOf(CustomApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SCHEDULE_NOT_FOUND);
+    }
+}
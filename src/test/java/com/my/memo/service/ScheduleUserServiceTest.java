@@ -0,0 +1,123 @@
+package com.my.memo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.memo.IntegrationTestSupport;
+import com.my.memo.domain.schedule.Schedule;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import com.my.memo.dto.scheduleUser.req.UserAssignReqDto;
+import com.my.memo.ex.CustomApiException;
+import com.my.memo.ex.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScheduleUserServiceTest extends IntegrationTestSupport {
+
+    private static final int THREADS = 10;
+
+    @Autowired
+    private ScheduleUserService scheduleUserService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void 여러_유저를_한_번에_배정한다() throws Exception {
+        User owner = saveUser(Role.USER);
+        Schedule schedule = saveSchedule(owner, true);
+        List<Long> userIds = List.of(saveUser(Role.USER).getId(), saveUser(Role.USER).getId(), saveUser(Role.USER).getId());
+
+        scheduleUserService.assignUserToSchedule(schedule.getId(), assignReq(userIds), owner.getId());
+
+        assertThat(assignedUserIds(schedule.getId())).containsExactlyInAnyOrderElementsOf(userIds);
+        assertThat(assignedUserCnt(schedule.getId())).isEqualTo(3);
+    }
+
+    @Test
+    void 존재하지_않는_유저가_섞여_있으면_배정하지_않는다() throws Exception {
+        User owner = saveUser(Role.USER);
+        Schedule schedule = saveSchedule(owner, true);
+        UserAssignReqDto req = assignReq(List.of(saveUser(Role.USER).getId(), Long.MAX_VALUE));
+
+        assertThatThrownBy(() -> scheduleUserService.assignUserToSchedule(schedule.getId(), req, owner.getId()))
+                .isInstanceOf(CustomApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USER_NOT_EXIST);
+        assertThat(assignedUserIds(schedule.getId())).isEmpty();
+        assertThat(assignedUserCnt(schedule.getId())).isZero();
+    }
+
+    @Test
+    void 동시에_배정해도_최대_인원을_넘지_않는다() throws Exception {
+        User owner = saveUser(Role.USER);
+        Schedule schedule = saveSchedule(owner, true);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            UserAssignReqDto req = assignReq(List.of(saveUser(Role.USER).getId()));
+            tasks.add(() -> assign(schedule.getId(), req, owner.getId()));
+        }
+
+        assertThat(runConcurrently(tasks)).isEqualTo(Schedule.MAX_ASSIGNED_USERS);
+        assertThat(assignedUserIds(schedule.getId())).hasSize(Schedule.MAX_ASSIGNED_USERS);
+        assertThat(assignedUserCnt(schedule.getId())).isEqualTo(Schedule.MAX_ASSIGNED_USERS);
+    }
+
+    @Test
+    void 같은_유저를_동시에_배정해도_한_번만_배정된다() throws Exception {
+        User owner = saveUser(Role.USER);
+        Schedule schedule = saveSchedule(owner, true);
+        UserAssignReqDto req = assignReq(List.of(saveUser(Role.USER).getId()));
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> assign(schedule.getId(), req, owner.getId()));
+        }
+
+        assertThat(runConcurrently(tasks)).isEqualTo(1);
+        assertThat(assignedUserIds(schedule.getId())).hasSize(1);
+        assertThat(assignedUserCnt(schedule.getId())).isEqualTo(1);
+    }
+
+    private boolean assign(Long scheduleId, UserAssignReqDto req, Long userId) {
+        try {
+            scheduleUserService.assignUserToSchedule(scheduleId, req, userId);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    //성공한 작업 수 반환
+    private long runConcurrently(List<Callable<Boolean>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            long succeeded = 0;
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+            return succeeded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UserAssignReqDto assignReq(List<Long> userIds) throws Exception {
+        String userIdList = userIds.stream().map(id -> "{\"userId\":" + id + "}").collect(Collectors.joining(","));
+        return objectMapper.readValue("{\"userIdList\":[" + userIdList + "]}", UserAssignReqDto.class);
+    }
+
+    private List<Long> assignedUserIds(Long scheduleId) {
+        return jdbcTemplate.queryForList("select user_id from schedule_user where schedule_id = ?", Long.class, scheduleId);
+    }
+}
@@ -0,0 +1,62 @@
+package com.my.memo.service;
+
+import com.my.memo.IntegrationTestSupport;
+import com.my.memo.domain.user.Role;
+import com.my.memo.domain.user.User;
+import com.my.memo.dto.user.req.JoinReqDto;
+import com.my.memo.dto.user.req.LoginReqDto;
+import com.my.memo.dto.user.req.UserModifyReqDto;
+import com.my.memo.ex.CustomApiException;
+import com.my.memo.util.CustomPasswordUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void 로그인에_성공하면_낮은_cost의_해시를_별도_트랜잭션으로_재해싱한다() {
+        User user = saveUser(Role.USER);
+        LoginReqDto loginReqDto = new LoginReqDto();
+        ReflectionTestUtils.setField(loginReqDto, "email", user.getEmail());
+        ReflectionTestUtils.setField(loginReqDto, "password", PASSWORD);
+
+        userService.login(loginReqDto);
+
+        String storedPassword = jdbcTemplate.queryForObject("select password from users where id = ?", String.class, user.getId());
+        assertThat(CustomPasswordUtil.getCost(storedPassword)).isEqualTo(10);
+        assertThat(CustomPasswordUtil.matches(PASSWORD, storedPassword)).isTrue();
+    }
+
+    @Test
+    void 비밀번호를_수정하면_새로_해싱한_값을_저장한다() {
+        User user = saveUser(Role.USER);
+        UserModifyReqDto userModifyReqDto = new UserModifyReqDto();
+        ReflectionTestUtils.setField(userModifyReqDto, "name", "수정");
+        ReflectionTestUtils.setField(userModifyReqDto, "password", "changed1234");
+
+        userService.updateUser(userModifyReqDto, user.getId());
+
+        String storedPassword = jdbcTemplate.queryForObject("select password from users where id = ?", String.class, user.getId());
+        assertThat(CustomPasswordUtil.matches("changed1234", storedPassword)).isTrue();
+        assertThat(jdbcTemplate.queryForObject("select name from users where id = ?", String.class, user.getId())).isEqualTo("수정");
+    }
+
+    @Test
+    void 이미_가입된_이메일이면_가입을_거절한다() {
+        User user = saveUser(Role.USER);
+        JoinReqDto joinReqDto = new JoinReqDto();
+        joinReqDto.setName("중복");
+        joinReqDto.setEmail(user.getEmail());
+        joinReqDto.setPassword("password1234");
+        joinReqDto.setRole("USER");
+
+        assertThatThrownBy(() -> userService.join(joinReqDto)).isInstanceOf(CustomApiException.class);
+    }
+}